@@ -0,0 +1,24 @@
+package com.studies.bookstore.benchmark;
+
+import com.studies.bookstore.domain.model.CartItem;
+import com.studies.bookstore.domain.model.ShoppingCart;
+
+import java.math.BigDecimal;
+
+/**
+ * Deterministic carts shared by the benchmarks: book ids 1..size, varied prices and quantities.
+ */
+final class BenchmarkCarts {
+
+    private BenchmarkCarts() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static ShoppingCart cart(String userId, int size) {
+        ShoppingCart cart = new ShoppingCart(userId);
+        for (int i = 1; i <= size; i++) {
+            cart.addItem(new CartItem((long) i, "Book " + i, BigDecimal.valueOf(500 + i * 7L, 2), 1 + i % 5));
+        }
+        return cart;
+    }
+}
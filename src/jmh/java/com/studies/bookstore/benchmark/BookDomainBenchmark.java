@@ -0,0 +1,69 @@
+package com.studies.bookstore.benchmark;
+
+import com.studies.bookstore.application.port.command.UpdateBookCommand;
+import com.studies.bookstore.domain.exception.DomainException;
+import com.studies.bookstore.domain.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a {@link Book} through its validating constructor, of a full update through the same checks,
+ * and of a rejected construction (the exception is part of the cost).
+ * Fields live in state so the JIT cannot fold the work away.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookDomainBenchmark {
+
+    private Long id = 42L;
+    private String title = "The Left Hand of Darkness";
+    private String author = "Ursula K. Le Guin";
+    private String category = "Science Fiction";
+    private BigDecimal price = new BigDecimal("18.90");
+    private int publicationYear = 1969;
+    private int invalidPublicationYear = 1700;
+    private int quantity = 12;
+    private Long version = 3L;
+
+    private final Book book = new Book(42L, "The Left Hand of Darkness", "Ursula K. Le Guin", "Science Fiction",
+            new BigDecimal("18.90"), 1969, 12, 3L);
+    private final UpdateBookCommand fullUpdate = new UpdateBookCommand(
+            Optional.of("The Dispossessed"), Optional.of("Ursula K. Le Guin"), Optional.of("Science Fiction"),
+            Optional.of(new BigDecimal("15.50")), Optional.of(1974), Optional.of(7));
+
+    @Benchmark
+    public Book construct() {
+        return new Book(id, title, author, category, price, publicationYear, quantity, version);
+    }
+
+    @Benchmark
+    public Book updateAllFields() {
+        book.updateBook(fullUpdate);
+        return book;
+    }
+
+    @Benchmark
+    public DomainException constructInvalid() {
+        try {
+            new Book(id, title, author, category, price, invalidPublicationYear, quantity, version);
+            return null;
+        } catch (DomainException ex) {
+            return ex;
+        }
+    }
+}
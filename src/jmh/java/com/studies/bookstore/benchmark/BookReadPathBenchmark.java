@@ -0,0 +1,79 @@
+package com.studies.bookstore.benchmark;
+
+import com.studies.bookstore.adapter.in.controller.dto.BookResponseDTO;
+import com.studies.bookstore.adapter.in.controller.mapper.BookWebMapper;
+import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
+import com.studies.bookstore.adapter.out.persistence.mapper.BookPersistenceMapper;
+import com.studies.bookstore.application.model.BookView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.EntityModel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-page mapping cost of the two listing paths once the rows are in memory:
+ * entity, validated {@code Book}, DTO and model versus projected {@link BookView}, DTO and model.
+ * The database side of the difference (persistence context registration, snapshots and
+ * flush-time dirty checks) needs a live PostgreSQL and is not part of this measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookReadPathBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private List<JpaBookEntity> entities;
+    private List<BookView> views;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(pageSize);
+        views = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            long id = i;
+            String title = "Title " + i;
+            String author = "Author " + (i % 50);
+            String category = "Category " + (i % 10);
+            BigDecimal price = BigDecimal.valueOf(500 + i, 2);
+            int year = 1950 + i % 70;
+            int quantity = i % 20;
+
+            entities.add(new JpaBookEntity(id, title, author, category, price, year, quantity, 0L));
+            views.add(new BookView(id, title, author, category, price, year, quantity, 0L));
+        }
+    }
+
+    @Benchmark
+    public List<EntityModel<BookResponseDTO>> entityPath() {
+        return BookPersistenceMapper.toDomainList(entities).stream()
+                .map(BookWebMapper::toResponseDTO)
+                .map(EntityModel::of)
+                .toList();
+    }
+
+    @Benchmark
+    public List<EntityModel<BookResponseDTO>> projectionPath() {
+        return views.stream()
+                .map(BookWebMapper::toResponseDTO)
+                .map(EntityModel::of)
+                .toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.studies.bookstore.benchmark;
+
+import com.studies.bookstore.Application;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.model.SliceResult;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency (sample-time percentiles) of the JPA and JDBC {@link BookRepositoryPort} adapters
+ * on the read paths the API uses most. The application context is started without the web layer against
+ * the datasource from application.yml (the docker-compose PostgreSQL); point it elsewhere with
+ * {@code -jvmArgsAppend -Dspring.datasource.url=...}. The book cache is disabled so every call reaches the database.
+ * The table should hold a realistic number of rows; the benchmark only reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookRepositoryAdapterBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"jpa", "jdbc"})
+    private String adapter;
+
+    private ConfigurableApplicationContext context;
+    private BookRepositoryPort repository;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--book.persistence.adapter=" + adapter,
+                        "--book.cache.enabled=false",
+                        "--book.count-estimate.enabled=false");
+        repository = context.getBean(BookRepositoryPort.class);
+
+        List<Book> sample = repository.findAllAfter(null, 1000, BookSort.DEFAULT).getContent();
+        if (sample.isEmpty()) {
+            throw new IllegalStateException("The books table is empty; load data before benchmarking");
+        }
+        ids = sample.stream().mapToLong(Book::getId).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Book> findById() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public SliceResult<Book> findSlice() {
+        return repository.findSlice(ThreadLocalRandom.current().nextInt(ids.length / PAGE_SIZE), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorResult<Book> findAllAfterKeyset() {
+        return repository.findAllAfter(new BookKeyset(null, randomId()), PAGE_SIZE, BookSort.DEFAULT);
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,78 @@
+package com.studies.bookstore.benchmark;
+
+import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
+import com.studies.bookstore.adapter.out.persistence.entity.ShoppingCartEntity;
+import com.studies.bookstore.adapter.out.persistence.mapper.BookPersistenceMapper;
+import com.studies.bookstore.adapter.out.persistence.mapper.ShoppingCartPersistenceMapper;
+import com.studies.bookstore.domain.model.Book;
+import com.studies.bookstore.domain.model.ShoppingCart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/domain conversions done on every repository call: a single book both ways,
+ * and a cart of {@code cartSize} items both ways.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int cartSize;
+
+    private JpaBookEntity bookEntity;
+    private Book book;
+    private ShoppingCart cart;
+    private ShoppingCartEntity cartEntity;
+
+    @Setup
+    public void setUp() {
+        bookEntity = new JpaBookEntity(7L, "Kindred", "Octavia E. Butler", "Fiction",
+                new BigDecimal("14.00"), 1979, 9, 2L);
+        book = BookPersistenceMapper.toDomain(bookEntity);
+
+        cart = BenchmarkCarts.cart("bench-user", cartSize);
+        cartEntity = new ShoppingCartEntity();
+        cartEntity.setUserId("bench-user");
+        ShoppingCartPersistenceMapper.updateEntityFromDomain(cart, cartEntity);
+    }
+
+    @Benchmark
+    public Book bookToDomain() {
+        return BookPersistenceMapper.toDomain(bookEntity);
+    }
+
+    @Benchmark
+    public JpaBookEntity bookToEntity() {
+        return BookPersistenceMapper.toJpaEntity(book);
+    }
+
+    @Benchmark
+    public ShoppingCart cartToDomain() {
+        return ShoppingCartPersistenceMapper.toDomain(cartEntity);
+    }
+
+    @Benchmark
+    public ShoppingCartEntity cartToEntity() {
+        ShoppingCartEntity entity = new ShoppingCartEntity();
+        entity.setUserId(cart.getUserId());
+        ShoppingCartPersistenceMapper.updateEntityFromDomain(cart, entity);
+        return entity;
+    }
+}
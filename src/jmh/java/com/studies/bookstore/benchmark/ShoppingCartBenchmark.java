@@ -0,0 +1,80 @@
+package com.studies.bookstore.benchmark;
+
+import com.studies.bookstore.domain.model.CartItem;
+import com.studies.bookstore.domain.model.ShoppingCart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ShoppingCart} operations on carts of growing size. Adding targets the last item,
+ * the worst case for a lookup by book id. {@link #readTotals} reads what every cart response
+ * and export reads, and should stay flat as the cart grows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoppingCartBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int cartSize;
+
+    private ShoppingCart cart;
+    private CartItem lastItemAgain;
+    private int quantityToggle;
+
+    // Per iteration, so quantities grown by addItem do not accumulate across the whole run
+    @Setup(Level.Iteration)
+    public void setUp() {
+        cart = BenchmarkCarts.cart("bench-user", cartSize);
+        lastItemAgain = new CartItem((long) cartSize, "Book " + cartSize, new BigDecimal("10.00"), 1);
+    }
+
+    @Benchmark
+    public ShoppingCart addExistingItem() {
+        cart.addItem(lastItemAgain);
+        return cart;
+    }
+
+    @Benchmark
+    public BigDecimal getTotalPrice() {
+        return cart.getTotalPrice();
+    }
+
+    @Benchmark
+    public void readTotals(Blackhole blackhole) {
+        blackhole.consume(cart.getTotalPrice());
+        blackhole.consume(cart.getTotalQuantity());
+        blackhole.consume(cart.getItemCount());
+    }
+
+    @Benchmark
+    public ShoppingCart updateItemQuantity() {
+        quantityToggle = quantityToggle == 1 ? 2 : 1;
+        cart.updateItemQuantity((long) cartSize, quantityToggle);
+        return cart;
+    }
+
+    @Benchmark
+    public ShoppingCart removeAndReAddItem() {
+        cart.removeItem((long) cartSize);
+        cart.addItem(new CartItem((long) cartSize, "Book " + cartSize, new BigDecimal("10.00"), 1));
+        return cart;
+    }
+}
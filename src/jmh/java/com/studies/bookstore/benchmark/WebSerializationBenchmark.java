@@ -0,0 +1,82 @@
+package com.studies.bookstore.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studies.bookstore.adapter.in.controller.dto.BookResponseDTO;
+import com.studies.bookstore.adapter.in.controller.dto.ShoppingCartResponseDTO;
+import com.studies.bookstore.adapter.in.controller.mapper.ShoppingCartWebMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the two largest response bodies: a shopping cart and a HAL page of books
+ * with one self link per item, both with {@code size} entries. The HAL mapper is configured
+ * the way Spring HATEOAS configures it for application/hal+json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper halObjectMapper;
+    private ShoppingCartResponseDTO cart;
+    private CollectionModel<EntityModel<BookResponseDTO>> bookPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        halObjectMapper = new ObjectMapper();
+        halObjectMapper.registerModule(new Jackson2HalModule());
+        halObjectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+
+        cart = ShoppingCartWebMapper.toResponseDTO(BenchmarkCarts.cart("bench-user", size));
+
+        String booksUri = "http://localhost:8080/api/v1/books";
+        List<EntityModel<BookResponseDTO>> items = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            BookResponseDTO dto = new BookResponseDTO(id, "Title " + id, "Author " + id % 50, "Category " + id % 10,
+                    BigDecimal.valueOf(500 + id, 2), 1950 + (int) (id % 70), (int) (id % 20));
+            items.add(EntityModel.of(dto, Link.of(booksUri + "/" + id)));
+        }
+        bookPage = CollectionModel.of(items, Link.of(booksUri + "?page=0&size=" + size));
+    }
+
+    @Benchmark
+    public byte[] shoppingCart() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cart);
+    }
+
+    @Benchmark
+    public byte[] halBookPage() throws JsonProcessingException {
+        return halObjectMapper.writeValueAsBytes(bookPage);
+    }
+}
@@ -0,0 +1,31 @@
+package com.studies.bookstore.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code --name=value} arguments shared by the load-test entry points; unknown names are rejected so typos
+ * do not silently fall back to defaults.
+ */
+final class CommandLineOptions {
+
+    private CommandLineOptions() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static Map<String, String> parse(String[] args, Set<String> known) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!known.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + "; known options: " + known);
+            }
+            values.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+        return values;
+    }
+}
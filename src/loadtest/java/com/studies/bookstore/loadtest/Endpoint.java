@@ -0,0 +1,45 @@
+package com.studies.bookstore.loadtest;
+
+import java.util.Random;
+
+/**
+ * Operations a virtual user performs, with their share of the traffic mix (weights sum to 100).
+ * Listing and single reads dominate, as for a catalog; exports are rare but heavy.
+ */
+enum Endpoint {
+
+    LOGIN("POST /api/auth/login", 2),
+    LIST_BOOKS("GET /api/v1/books", 38),
+    GET_BOOK("GET /api/v1/books/{id}", 30),
+    CART_ADD("POST /api/v1/cart/items", 12),
+    CART_UPDATE("PUT /api/v1/cart/items/{bookId}", 8),
+    CART_REMOVE("DELETE /api/v1/cart/items/{bookId}", 8),
+    EXPORT_BOOKS("GET /api/v1/books/export", 1),
+    EXPORT_CART("POST /api/v1/cart/export", 1);
+
+    private static final Endpoint[] VALUES = values();
+    private static final int TOTAL_WEIGHT = 100;
+
+    private final String label;
+    private final int weight;
+
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Endpoint pick(Random random) {
+        int roll = random.nextInt(TOTAL_WEIGHT);
+        for (Endpoint endpoint : VALUES) {
+            roll -= endpoint.weight;
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return LIST_BOOKS;
+    }
+}
@@ -0,0 +1,74 @@
+package com.studies.bookstore.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Raw response times per endpoint, kept by one virtual user and merged after the run.
+ * Every sample is kept, so percentiles are exact rather than bucketed.
+ */
+final class LatencySamples {
+
+    private final Map<Endpoint, Series> series = new EnumMap<>(Endpoint.class);
+
+    void record(Endpoint endpoint, long nanos, boolean success) {
+        Series s = series.computeIfAbsent(endpoint, e -> new Series());
+        s.add(nanos);
+        if (!success) {
+            s.errors++;
+        }
+    }
+
+    void mergeInto(LatencySamples target) {
+        series.forEach((endpoint, s) -> target.series.computeIfAbsent(endpoint, e -> new Series()).addAll(s));
+    }
+
+    /**
+     * All endpoints together, for the overall figures.
+     */
+    Series combined() {
+        Series all = new Series();
+        series.values().forEach(all::addAll);
+        return all;
+    }
+
+    Map<Endpoint, Series> series() {
+        return series;
+    }
+
+    static final class Series {
+
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        private void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        private void addAll(Series other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+            errors += other.errors;
+        }
+
+        int count() {
+            return size;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.studies.bookstore.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load test settings, read from {@code --name=value} arguments.
+ *
+ * @param books     size of the synthetic catalog seeded before the run
+ * @param carts     synthetic carts seeded next to the virtual users' own, so cart tables are not near-empty
+ * @param users     concurrent virtual users, each with its own account and cart
+ * @param warmup    traffic that is sent but not recorded
+ * @param duration  recorded traffic
+ * @param output    result file (JSON)
+ * @param jdbcUrl   database to run against; {@code null} starts a throwaway PostgreSQL container
+ */
+record LoadTestConfig(long books,
+                      long carts,
+                      int users,
+                      Duration warmup,
+                      Duration duration,
+                      Path output,
+                      String jdbcUrl,
+                      String dbUsername,
+                      String dbPassword) {
+
+    private static final Set<String> KNOWN = Set.of(
+            "books", "carts", "users", "warmup", "duration", "output", "jdbc-url", "db-username", "db-password");
+
+    static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> values = CommandLineOptions.parse(args, KNOWN);
+
+        return new LoadTestConfig(
+                Long.parseLong(values.getOrDefault("books", "100000")),
+                Long.parseLong(values.getOrDefault("carts", "10000")),
+                Integer.parseInt(values.getOrDefault("users", "16")),
+                Duration.parse(values.getOrDefault("warmup", "PT10S")),
+                Duration.parse(values.getOrDefault("duration", "PT60S")),
+                Path.of(values.getOrDefault("output", "target/loadtest/results.json")),
+                values.get("jdbc-url"),
+                values.getOrDefault("db-username", "postgres"),
+                values.getOrDefault("db-password", "postgres")
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.studies.bookstore.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result file of one run: the settings it ran with and, per endpoint, request and error counts,
+ * throughput and latency percentiles in milliseconds. Errors (HTTP 4xx/5xx or transport failures)
+ * are included in the latency figures.
+ */
+record LoadTestReport(Instant finishedAt,
+                      Map<String, Object> config,
+                      double measuredSeconds,
+                      List<EndpointResult> endpoints,
+                      EndpointResult total) {
+
+    record EndpointResult(String endpoint,
+                          long requests,
+                          long errors,
+                          double throughputPerSecond,
+                          Latency latencyMs) {
+    }
+
+    record Latency(double p50, double p99, double p999, double max, double mean) {
+    }
+
+    static LoadTestReport of(LoadTestConfig config, double measuredSeconds, LatencySamples merged) {
+        List<EndpointResult> endpoints = new ArrayList<>();
+        merged.series().forEach((endpoint, series) ->
+                endpoints.add(result(endpoint.label(), series, measuredSeconds)));
+        LatencySamples.Series totals = merged.combined();
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("books", config.books());
+        settings.put("carts", config.carts());
+        settings.put("users", config.users());
+        settings.put("warmup", config.warmup().toString());
+        settings.put("duration", config.duration().toString());
+        settings.put("database", config.jdbcUrl() == null ? "testcontainers:postgres:15-alpine" : config.jdbcUrl());
+
+        return new LoadTestReport(Instant.now(), settings, measuredSeconds, endpoints,
+                totals.count() == 0 ? null : result("total", totals, measuredSeconds));
+    }
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(file.toFile(), this);
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-38s %9s %7s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+        List<EndpointResult> rows = new ArrayList<>(endpoints);
+        if (total != null) {
+            rows.add(total);
+        }
+        for (EndpointResult row : rows) {
+            table.append(String.format("%-38s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                    row.endpoint(), row.requests(), row.errors(), row.throughputPerSecond(),
+                    row.latencyMs().p50(), row.latencyMs().p99(), row.latencyMs().p999()));
+        }
+        return table.toString();
+    }
+
+    private static EndpointResult result(String label, LatencySamples.Series series, double seconds) {
+        long[] sorted = series.sorted();
+        double sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        Latency latency = new Latency(
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.99)),
+                millis(percentile(sorted, 0.999)),
+                millis(sorted[sorted.length - 1]),
+                millis(sum / sorted.length));
+        return new EndpointResult(label, sorted.length, series.errors(), sorted.length / seconds, latency);
+    }
+
+    /**
+     * Nearest-rank percentile: the smallest sample that at least {@code fraction} of all samples do not exceed.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,159 @@
+package com.studies.bookstore.loadtest;
+
+import com.studies.bookstore.Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.UserDetailsManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test. Boots the whole application on a random port against PostgreSQL (a throwaway
+ * Testcontainers instance unless {@code --jdbc-url} is given), seeds it with {@link SyntheticDataGenerator}, gives every
+ * virtual user its own account, runs the traffic mix from {@link Endpoint} for the warmup and measured
+ * phases and writes a {@link LoadTestReport} as JSON.
+ *
+ * <p>Run with {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--books=50000 --users=32"}.
+ */
+public final class LoadTestRunner {
+
+    private static final String PASSWORD = "password";
+    // Large enough that cart additions and updates never fail the stock check during a run
+    private static final int MIN_STOCK = 100_000;
+
+    private LoadTestRunner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+
+        PostgreSQLContainer<?> postgres = null;
+        String jdbcUrl = config.jdbcUrl();
+        String username = config.dbUsername();
+        String password = config.dbPassword();
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                    .withDatabaseName("book_store_loadtest")
+                    .withUsername("loadtest")
+                    .withPassword("loadtest");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+
+        try {
+            // Seeded before the application starts, so startup work such as the in-memory search index sees the data
+            long seedStart = System.nanoTime();
+            SyntheticDataGenerator.Result seeded = SyntheticDataGenerator.generate(jdbcUrl, username, password,
+                    new SyntheticCatalog(42, config.books(), MIN_STOCK), config.carts());
+            System.out.printf("Seeded %d books and %d carts in %d ms%n",
+                    config.books(), seeded.carts(), (System.nanoTime() - seedStart) / 1_000_000);
+
+            try (ConfigurableApplicationContext context = start(jdbcUrl, username, password)) {
+                runAgainst(context, config, seeded);
+            }
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static void runAgainst(ConfigurableApplicationContext context, LoadTestConfig config,
+                                   SyntheticDataGenerator.Result seeded) throws IOException, InterruptedException {
+        List<String> accounts = createAccounts(context, config.users());
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        LoadTestReport report = run(config, URI.create("http://localhost:" + port), accounts, seeded);
+        report.write(config.output());
+
+        System.out.print(report.toTable());
+        System.out.println("Results written to " + config.output().toAbsolutePath());
+    }
+
+    private static ConfigurableApplicationContext start(String jdbcUrl, String username, String password)
+            throws IOException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", username);
+        properties.put("spring.datasource.password", password);
+        properties.put("spring.datasource.hikari.maximum-pool-size", 20);
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        properties.put("cart.export.directory", Files.createTempDirectory("loadtest-cart-exports").toString());
+        // Per-request INFO lines would make the console, not the server, the bottleneck
+        properties.put("logging.level.com.studies.bookstore", "WARN");
+
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(properties)
+                .logStartupInfo(false)
+                .run();
+    }
+
+    /**
+     * Adds one account per virtual user to the in-memory user store, so each one works on its own cart.
+     */
+    private static List<String> createAccounts(ConfigurableApplicationContext context, int users) {
+        if (!(context.getBean(UserDetailsService.class) instanceof UserDetailsManager manager)) {
+            throw new IllegalStateException("The user store does not support adding accounts");
+        }
+        PasswordEncoder encoder = context.getBean(PasswordEncoder.class);
+
+        List<String> accounts = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String name = "loadtest-" + i;
+            manager.createUser(User.withUsername(name).password(encoder.encode(PASSWORD)).roles("USER").build());
+            accounts.add(name);
+        }
+        return accounts;
+    }
+
+    private static LoadTestReport run(LoadTestConfig config, URI baseUri, List<String> accounts,
+                                      SyntheticDataGenerator.Result seeded) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        RunPhase phase = new RunPhase();
+
+        List<VirtualUser> users = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            VirtualUser user = new VirtualUser(client, baseUri, accounts.get(i), PASSWORD,
+                    seeded.firstBookId(), seeded.lastBookId(), phase, i);
+            users.add(user);
+            Thread thread = new Thread(user, accounts.get(i));
+            thread.start();
+            threads.add(thread);
+        }
+
+        Thread.sleep(config.warmup().toMillis());
+        phase.startMeasuring();
+        Thread.sleep(config.duration().toMillis());
+        phase.finish();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencySamples merged = new LatencySamples();
+        users.forEach(user -> user.samples().mergeInto(merged));
+        return LoadTestReport.of(config, phase.measuredSeconds(), merged);
+    }
+}
@@ -0,0 +1,35 @@
+package com.studies.bookstore.loadtest;
+
+/**
+ * Shared run state: virtual users record samples only while {@link #measuring()} and stop once {@link #finished()}.
+ */
+final class RunPhase {
+
+    private volatile boolean measuring;
+    private volatile boolean finished;
+    private long measureStart;
+    private long measureEnd;
+
+    boolean measuring() {
+        return measuring;
+    }
+
+    boolean finished() {
+        return finished;
+    }
+
+    void startMeasuring() {
+        measureStart = System.nanoTime();
+        measuring = true;
+    }
+
+    void finish() {
+        measuring = false;
+        measureEnd = System.nanoTime();
+        finished = true;
+    }
+
+    double measuredSeconds() {
+        return (measureEnd - measureStart) / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,203 @@
+package com.studies.bookstore.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Year;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic books and carts. Every row is derived from the seed and its own index only,
+ * so book {@code n} can be regenerated when a cart item needs its title and price, and nothing has to be
+ * held in memory however large the data set is.
+ *
+ * <p>Distributions are skewed the way a real catalog is: a few prolific authors and popular books account
+ * for much of the data, fiction dominates the categories, prices are log-normal around a typical paperback
+ * and publication years cluster near the present. Most carts hold a handful of items, a few hold dozens.
+ */
+final class SyntheticCatalog {
+
+    record BookRow(String title, String author, String category, BigDecimal price, int publicationYear, int quantity) {
+    }
+
+    record CartItemRow(long bookIndex, int quantity) {
+    }
+
+    private static final String[] ADJECTIVES = {
+            "Silent", "Hidden", "Broken", "Golden", "Last", "Lost", "Secret", "Dark", "Bright", "Quiet",
+            "Forgotten", "Endless", "Crimson", "Wild", "Distant", "Burning", "Frozen", "Little", "Hollow", "Final",
+            "Northern", "Midnight", "Invisible", "Restless", "Ancient", "Gentle", "Bitter", "Shattered", "Sacred", "Fallen"
+    };
+    private static final String[] NOUNS = {
+            "River", "House", "Garden", "Kingdom", "Storm", "Mirror", "Road", "Winter", "Harbor", "Forest",
+            "Empire", "Promise", "Shadow", "Island", "Daughter", "Letter", "Machine", "City", "Song", "Crown",
+            "Sea", "Mountain", "Orchard", "Library", "Bridge", "Fire", "Witness", "Journey", "Valley", "Station",
+            "Algorithm", "Engine", "Silence", "Heart", "Map", "Tide", "Clockmaker", "Archive", "Lighthouse", "Compass"
+    };
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Margaret", "Paul", "Sandra",
+            "Ana", "Lucas", "Sofia", "Mateus", "Julia", "Pedro", "Camila", "Rafael", "Beatriz", "Gabriel",
+            "Haruki", "Yuki", "Wei", "Mei", "Arjun", "Priya", "Omar", "Leila", "Ivan", "Olga",
+            "Pierre", "Camille", "Hans", "Greta", "Marco", "Giulia", "Sean", "Aoife", "Lars", "Ingrid"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Silva", "Santos", "Oliveira", "Souza", "Carvalho", "Pereira", "Costa", "Almeida", "Ferreira", "Ribeiro",
+            "Tanaka", "Suzuki", "Wang", "Li", "Zhang", "Patel", "Sharma", "Khan", "Ivanov", "Petrova",
+            "Dubois", "Laurent", "Muller", "Schmidt", "Rossi", "Bianchi", "Murphy", "Kelly", "Larsen", "Nilsen",
+            "Novak", "Kowalski", "Nagy", "Horvat", "Popescu", "Yilmaz", "Cohen", "Levi", "Haddad", "Nasser",
+            "Okafor", "Mensah", "Abebe", "Mwangi", "Kim", "Park", "Nguyen", "Tran", "Santiago", "Reyes"
+    };
+    private static final String[] CATEGORIES = {
+            "Fiction", "Mystery", "Romance", "Fantasy", "Science Fiction", "Thriller", "Biography", "History",
+            "Self-Help", "Children", "Young Adult", "Business", "Cooking", "Travel", "Science", "Technology",
+            "Poetry", "Horror", "Philosophy", "Religion", "Art", "Health", "Sports", "Reference"
+    };
+    // Relative frequency of each category above, in the same order
+    private static final int[] CATEGORY_WEIGHTS = {
+            180, 90, 85, 75, 60, 60, 45, 45, 40, 40, 35, 30, 25, 20, 20, 20, 12, 12, 10, 10, 8, 8, 6, 4
+    };
+    private static final int[] CATEGORY_CUMULATIVE = cumulative(CATEGORY_WEIGHTS);
+
+    private static final BigDecimal NINETY_NINE_CENTS = new BigDecimal("0.99");
+    private static final int MAX_CART_ITEMS = 60;
+    private static final int MAX_ITEM_QUANTITY = 5;
+
+    private final long seed;
+    private final long books;
+    private final int authors;
+    private final int minStock;
+    private final int currentYear = Year.now().getValue();
+
+    /**
+     * @param seed     makes two generators with the same arguments produce the same rows
+     * @param books    catalog size; also bounds the indexes cart items point at
+     * @param minStock lowest stock any book gets, so traffic that adds to carts does not run out
+     */
+    SyntheticCatalog(long seed, long books, int minStock) {
+        this.seed = seed;
+        this.books = books;
+        this.authors = (int) Math.max(50, Math.min(books / 25, 100_000));
+        this.minStock = minStock;
+    }
+
+    long books() {
+        return books;
+    }
+
+    BookRow book(long index) {
+        SplittableRandom random = random(1, index);
+
+        String title = title(random);
+        if (random.nextInt(10) == 0) {
+            title += ": Book " + (2 + random.nextInt(6));
+        }
+
+        double price = Math.exp(2.9 + 0.55 * gaussian(random));
+        price = Math.min(250, Math.max(1.99, price));
+        BigDecimal amount = random.nextInt(10) < 6
+                ? BigDecimal.valueOf((long) price).add(NINETY_NINE_CENTS)
+                : BigDecimal.valueOf(price).setScale(2, RoundingMode.HALF_UP);
+
+        int age = (int) (-12 * Math.log(1 - random.nextDouble()));
+
+        return new BookRow(
+                title,
+                author(skewed(random, authors, 1.5)),
+                CATEGORIES[weighted(random, CATEGORY_CUMULATIVE)],
+                amount,
+                Math.max(1800, currentYear - age),
+                minStock + skewed(random, 500, 2));
+    }
+
+    /**
+     * Items of cart {@code index}: mostly a handful, with a long tail, each a distinct book drawn with a bias
+     * toward the popular (low-index) end of the catalog.
+     */
+    CartItemRow[] cartItems(long index) {
+        SplittableRandom random = random(2, index);
+        int count = (int) Math.min(books, 1 + skewed(random, MAX_CART_ITEMS, 4));
+
+        Set<Long> chosen = new HashSet<>();
+        CartItemRow[] items = new CartItemRow[count];
+        for (int i = 0; i < count; i++) {
+            long bookIndex;
+            do {
+                bookIndex = (long) (books * Math.pow(random.nextDouble(), 3));
+            } while (!chosen.add(bookIndex));
+            items[i] = new CartItemRow(bookIndex, 1 + skewed(random, MAX_ITEM_QUANTITY, 3));
+        }
+        return items;
+    }
+
+    static String cartUserId(long index) {
+        return "shopper-" + index;
+    }
+
+    private SplittableRandom random(long stream, long index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static String title(SplittableRandom random) {
+        String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+        String noun = NOUNS[random.nextInt(NOUNS.length)];
+        String other = NOUNS[random.nextInt(NOUNS.length)];
+        return switch (random.nextInt(6)) {
+            case 0 -> "The " + noun;
+            case 1 -> adjective + " " + noun;
+            case 2 -> "The " + adjective + " " + noun;
+            case 3 -> "The " + noun + " of the " + other;
+            case 4 -> noun + " and " + other;
+            default -> "A " + adjective + " " + noun;
+        };
+    }
+
+    private static String author(int index) {
+        int pairs = FIRST_NAMES.length * LAST_NAMES.length;
+        String first = FIRST_NAMES[index % FIRST_NAMES.length];
+        String last = LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        if (index < pairs) {
+            return first + " " + last;
+        }
+        char initial = (char) ('A' + (index / pairs - 1) % 26);
+        return first + " " + initial + ". " + last;
+    }
+
+    /**
+     * Value in {@code [0, bound)} with a power-law lean toward 0; a higher exponent means a steeper skew.
+     */
+    private static int skewed(SplittableRandom random, int bound, double exponent) {
+        return (int) (bound * Math.pow(random.nextDouble(), exponent));
+    }
+
+    private static int weighted(SplittableRandom random, int[] cumulative) {
+        int roll = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (roll < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian on Java 17
+        double u = 1 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static int[] cumulative(int[] weights) {
+        int[] cumulative = new int[weights.length];
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+}
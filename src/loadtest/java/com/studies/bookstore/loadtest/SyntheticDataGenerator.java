@@ -0,0 +1,203 @@
+package com.studies.bookstore.loadtest;
+
+import org.flywaydb.core.Flyway;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads {@link SyntheticCatalog} data into PostgreSQL at production volume: millions of books and hundreds
+ * of thousands of carts. Rows are streamed through {@code COPY ... FROM STDIN}, which skips per-row statement
+ * overhead entirely, and statistics are refreshed afterwards so the planner sees the new sizes.
+ *
+ * <p>The schema is brought up to date with the application's Flyway migrations first, so an empty database
+ * works. Books are appended to whatever the table already holds. Carts use the {@code shopper-<n>} user ids
+ * and fail on a primary-key violation if those already exist. Run it against an otherwise idle database:
+ * cart items address books by position in the id range this run was assigned, which has to be contiguous.
+ *
+ * <p>Run with {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.main=com.studies.bookstore.loadtest.SyntheticDataGenerator
+ * -Dloadtest.args="--jdbc-url=jdbc:postgresql://localhost:5432/book_store --books=5000000 --carts=500000"}.
+ */
+public final class SyntheticDataGenerator {
+
+    /**
+     * What a run added: the id range of the new books and the number of carts and cart items.
+     */
+    record Result(long firstBookId, long lastBookId, long carts, long cartItems) {
+    }
+
+    private static final String COPY_BOOKS =
+            "COPY books (title, author, category, price, publication_year, quantity) FROM STDIN";
+    private static final String COPY_CARTS = "COPY shopping_cart (user_id) FROM STDIN";
+    private static final String COPY_CART_ITEMS =
+            "COPY cart_item (user_id, book_id, title, unit_price, quantity) FROM STDIN";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long PROGRESS_EVERY = 1_000_000;
+
+    private static final Set<String> KNOWN = Set.of(
+            "jdbc-url", "db-username", "db-password", "books", "carts", "seed", "min-stock");
+
+    private SyntheticDataGenerator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        Map<String, String> values = CommandLineOptions.parse(args, KNOWN);
+        if (!values.containsKey("jdbc-url")) {
+            throw new IllegalArgumentException("--jdbc-url is required");
+        }
+
+        long start = System.nanoTime();
+        Result result = generate(
+                values.get("jdbc-url"),
+                values.getOrDefault("db-username", "postgres"),
+                values.getOrDefault("db-password", "postgres"),
+                new SyntheticCatalog(
+                        Long.parseLong(values.getOrDefault("seed", "42")),
+                        Long.parseLong(values.getOrDefault("books", "1000000")),
+                        Integer.parseInt(values.getOrDefault("min-stock", "0"))),
+                Long.parseLong(values.getOrDefault("carts", "100000")));
+
+        System.out.printf("Added books %d..%d, %d carts and %d cart items in %d s%n",
+                result.firstBookId(), result.lastBookId(), result.carts(), result.cartItems(),
+                (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    static Result generate(String jdbcUrl, String username, String password,
+                           SyntheticCatalog catalog, long carts) throws SQLException, IOException {
+        long books = catalog.books();
+        Flyway.configure().dataSource(jdbcUrl, username, password).load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            connection.setAutoCommit(false);
+            PGConnection pg = connection.unwrap(PGConnection.class);
+
+            long idsBefore = maxBookId(connection);
+            copyBooks(pg, catalog, books);
+            connection.commit();
+            long firstBookId = requireContiguousIds(connection, idsBefore, books);
+
+            long cartItems = 0;
+            if (carts > 0) {
+                copyCarts(pg, carts);
+                cartItems = copyCartItems(pg, catalog, carts, firstBookId);
+                connection.commit();
+            }
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE books");
+                statement.execute("ANALYZE shopping_cart");
+                statement.execute("ANALYZE cart_item");
+            }
+            return new Result(firstBookId, firstBookId + books - 1, carts, cartItems);
+        }
+    }
+
+    private static void copyBooks(PGConnection pg, SyntheticCatalog catalog, long books)
+            throws SQLException, IOException {
+        try (Writer out = copyWriter(pg, COPY_BOOKS)) {
+            for (long i = 0; i < books; i++) {
+                SyntheticCatalog.BookRow book = catalog.book(i);
+                out.write(book.title());
+                out.write('\t');
+                out.write(book.author());
+                out.write('\t');
+                out.write(book.category());
+                out.write('\t');
+                out.write(book.price().toPlainString());
+                out.write('\t');
+                out.write(Integer.toString(book.publicationYear()));
+                out.write('\t');
+                out.write(Integer.toString(book.quantity()));
+                out.write('\n');
+                progress("books", i + 1);
+            }
+        }
+    }
+
+    private static void copyCarts(PGConnection pg, long carts) throws SQLException, IOException {
+        try (Writer out = copyWriter(pg, COPY_CARTS)) {
+            for (long i = 0; i < carts; i++) {
+                out.write(SyntheticCatalog.cartUserId(i));
+                out.write('\n');
+            }
+        }
+    }
+
+    private static long copyCartItems(PGConnection pg, SyntheticCatalog catalog, long carts, long firstBookId)
+            throws SQLException, IOException {
+        long written = 0;
+        try (Writer out = copyWriter(pg, COPY_CART_ITEMS)) {
+            for (long i = 0; i < carts; i++) {
+                String userId = SyntheticCatalog.cartUserId(i);
+                for (SyntheticCatalog.CartItemRow item : catalog.cartItems(i)) {
+                    // The cart keeps the title and price the book had when it was added
+                    SyntheticCatalog.BookRow book = catalog.book(item.bookIndex());
+                    out.write(userId);
+                    out.write('\t');
+                    out.write(Long.toString(firstBookId + item.bookIndex()));
+                    out.write('\t');
+                    out.write(book.title());
+                    out.write('\t');
+                    out.write(book.price().toPlainString());
+                    out.write('\t');
+                    out.write(Integer.toString(item.quantity()));
+                    out.write('\n');
+                    progress("cart items", ++written);
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * COPY text format: tab-separated, newline-terminated. Generated values never contain tabs, newlines
+     * or backslashes, so no escaping is needed.
+     */
+    private static Writer copyWriter(PGConnection pg, String sql) throws SQLException {
+        return new BufferedWriter(
+                new OutputStreamWriter(new PGCopyOutputStream(pg, sql, BUFFER_SIZE), StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+    }
+
+    private static long maxBookId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT coalesce(max(id), 0) FROM books")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long requireContiguousIds(Connection connection, long idsBefore, long books) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT min(id), max(id), count(*) FROM books WHERE id > " + idsBefore)) {
+            rs.next();
+            long first = rs.getLong(1);
+            long last = rs.getLong(2);
+            if (rs.getLong(3) != books || last - first + 1 != books) {
+                throw new IllegalStateException("New book ids are not one contiguous range; was the database idle?");
+            }
+            return first;
+        }
+    }
+
+    private static void progress(String what, long count) {
+        if (count % PROGRESS_EVERY == 0) {
+            System.out.printf("  %,d %s%n", count, what);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.studies.bookstore.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * One simulated client: logs in with its own account, then sends requests drawn from the
+ * {@link Endpoint} mix until the run ends. It remembers what it put in its cart, so updates and
+ * removals target items that exist; with an empty cart those turn into additions.
+ */
+final class VirtualUser implements Runnable {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final int PAGE_SIZE = 20;
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final String username;
+    private final String password;
+    private final long firstBookId;
+    private final long bookCount;
+    private final RunPhase phase;
+    private final Random random;
+    private final LatencySamples samples = new LatencySamples();
+    private final List<Long> cartBookIds = new ArrayList<>();
+
+    private String token;
+
+    VirtualUser(HttpClient client, URI baseUri, String username, String password,
+                long firstBookId, long lastBookId, RunPhase phase, long seed) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.username = username;
+        this.password = password;
+        this.firstBookId = firstBookId;
+        this.bookCount = lastBookId - firstBookId + 1;
+        this.phase = phase;
+        this.random = new Random(seed);
+    }
+
+    LatencySamples samples() {
+        return samples;
+    }
+
+    @Override
+    public void run() {
+        login();
+        while (!phase.finished()) {
+            Endpoint endpoint = Endpoint.pick(random);
+            switch (endpoint) {
+                case LOGIN -> login();
+                case LIST_BOOKS -> send(endpoint, get("/api/v1/books?page=" + random.nextInt(50) + "&size=" + PAGE_SIZE));
+                case GET_BOOK -> send(endpoint, get("/api/v1/books/" + randomBookId()));
+                case CART_ADD -> addToCart();
+                case CART_UPDATE -> updateCartItem();
+                case CART_REMOVE -> removeCartItem();
+                case EXPORT_BOOKS -> send(endpoint, get("/api/v1/books/export"));
+                case EXPORT_CART -> send(endpoint, authorized("/api/v1/cart/export").POST(HttpRequest.BodyPublishers.noBody()));
+            }
+        }
+    }
+
+    private void login() {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        HttpResponse<String> response = exchange(Endpoint.LOGIN, request, HttpResponse.BodyHandlers.ofString());
+        if (response != null && response.statusCode() == 200) {
+            try {
+                token = JSON.readTree(response.body()).get("token").asText();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else if (token == null) {
+            throw new IllegalStateException("Virtual user " + username + " could not log in");
+        }
+    }
+
+    private void addToCart() {
+        long bookId = randomBookId();
+        String body = "{\"bookId\":" + bookId + ",\"quantity\":1}";
+        if (send(Endpoint.CART_ADD, authorized("/api/v1/cart/items")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))) && !cartBookIds.contains(bookId)) {
+            cartBookIds.add(bookId);
+        }
+    }
+
+    private void updateCartItem() {
+        if (cartBookIds.isEmpty()) {
+            addToCart();
+            return;
+        }
+        long bookId = cartBookIds.get(random.nextInt(cartBookIds.size()));
+        String body = "{\"quantity\":" + (1 + random.nextInt(5)) + "}";
+        send(Endpoint.CART_UPDATE, authorized("/api/v1/cart/items/" + bookId)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private void removeCartItem() {
+        if (cartBookIds.isEmpty()) {
+            addToCart();
+            return;
+        }
+        long bookId = cartBookIds.remove(random.nextInt(cartBookIds.size()));
+        send(Endpoint.CART_REMOVE, authorized("/api/v1/cart/items/" + bookId).DELETE());
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return authorized(path).GET();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private boolean send(Endpoint endpoint, HttpRequest.Builder request) {
+        HttpResponse<Void> response = exchange(endpoint, request.build(), HttpResponse.BodyHandlers.discarding());
+        return response != null && response.statusCode() < 400;
+    }
+
+    /**
+     * Times the full exchange, including reading the body, and records it if the run is in its measured phase.
+     * Transport failures count as errors and yield {@code null}.
+     */
+    private <T> HttpResponse<T> exchange(Endpoint endpoint, HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        boolean measured = phase.measuring();
+        long start = System.nanoTime();
+        HttpResponse<T> response;
+        try {
+            response = client.send(request, handler);
+        } catch (IOException e) {
+            response = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (measured) {
+            samples.record(endpoint, elapsed, response != null && response.statusCode() < 400);
+        }
+        return response;
+    }
+
+    private long randomBookId() {
+        return firstBookId + random.nextLong(bookCount);
+    }
+}
@@ -1,29 +1,50 @@
 package com.studies.bookstore.adapter.in.controller;
 
+import com.studies.bookstore.adapter.in.controller.dto.BookBatchDeleteResponseDTO;
+import com.studies.bookstore.adapter.in.controller.dto.BookBatchResponseDTO;
 import com.studies.bookstore.adapter.in.controller.dto.BookRequestDTO;
 import com.studies.bookstore.adapter.in.controller.dto.BookResponseDTO;
 import com.studies.bookstore.adapter.in.controller.dto.BookUpdateRequestDTO;
+import com.studies.bookstore.adapter.in.controller.mapper.BookCursorCodec;
+import com.studies.bookstore.adapter.in.controller.mapper.BookETag;
+import com.studies.bookstore.adapter.in.controller.mapper.BookSortParser;
 import com.studies.bookstore.adapter.in.controller.mapper.BookUpdateWebMapper;
 import com.studies.bookstore.adapter.in.controller.mapper.BookWebMapper;
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.BookBatchDeleteResult;
+import com.studies.bookstore.application.model.BookBatchResult;
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.CursorResult;
 import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.model.SliceResult;
 import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
 import com.studies.bookstore.application.port.command.UpdateBookCommand;
 import com.studies.bookstore.application.port.in.AddBookUseCase;
 import com.studies.bookstore.application.port.in.DeleteBookUseCase;
 import com.studies.bookstore.application.port.in.GetBookUseCase;
+import com.studies.bookstore.application.port.in.SearchBooksUseCase;
 import com.studies.bookstore.application.port.in.UpdateBookUseCase;
 import com.studies.bookstore.domain.model.Book;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -35,18 +56,29 @@ public class BookController {
 
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 10;
+    private static final String TOTAL_COUNT_ESTIMATE_HEADER = "X-Total-Count-Estimate";
+
+    // Query parameters of the listing modes below; each mode rejects the ones it would otherwise ignore
+    private static final Set<String> LISTING_PARAMS = Set.of("page", "size", "category", "author", "minPrice",
+            "maxPrice", "minYear", "maxYear", "sort", "itemLinks", "ids", "slice", "after");
+    private static final Set<String> IDS_PARAMS = Set.of("ids");
+    private static final Set<String> SLICE_PARAMS = Set.of("slice", "page", "size", "itemLinks");
+    private static final Set<String> CURSOR_PARAMS = Set.of("after", "size", "sort", "itemLinks");
 
     private final AddBookUseCase addBookUseCase;
     private final GetBookUseCase getBookUseCase;
     private final UpdateBookUseCase updateBookUseCase;
     private final DeleteBookUseCase deleteBookUseCase;
+    private final SearchBooksUseCase searchBooksUseCase;
 
     public BookController(AddBookUseCase addBookUseCase, GetBookUseCase getBookUseCase,
-                          UpdateBookUseCase updateBookUseCase, DeleteBookUseCase deleteBookUseCase) {
+                          UpdateBookUseCase updateBookUseCase, DeleteBookUseCase deleteBookUseCase,
+                          SearchBooksUseCase searchBooksUseCase) {
         this.addBookUseCase = addBookUseCase;
         this.getBookUseCase = getBookUseCase;
         this.updateBookUseCase = updateBookUseCase;
         this.deleteBookUseCase = deleteBookUseCase;
+        this.searchBooksUseCase = searchBooksUseCase;
     }
 
     @PostMapping
@@ -62,54 +94,159 @@ public class BookController {
 
     @GetMapping("/{id}")
     public ResponseEntity<EntityModel<BookResponseDTO>> getBook(@NotNull @PathVariable Long id) {
-        BookResponseDTO body = BookWebMapper.toResponseDTO(getBookUseCase.getBook(id));
+        Book book = getBookUseCase.getBook(id);
+        BookResponseDTO body = BookWebMapper.toResponseDTO(book);
 
         EntityModel<BookResponseDTO> resource = toBookResource(id, body);
 
-        return ResponseEntity.status(HttpStatus.OK).body(resource);
+        return withETag(book).body(resource);
     }
 
     @GetMapping("")
     public ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> getAllBooks(
             @RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
-            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size) {
-        PagedResult<Book> pagedBooks = getBookUseCase.getAllBooks(page, size);
-
-        List<EntityModel<BookResponseDTO>> items = pagedBooks.getContent().stream()
-                .map(book -> {
-                    BookResponseDTO dto = BookWebMapper.toResponseDTO(book);
-                    return EntityModel.of(dto,
-                            linkTo(methodOn(BookController.class).getBook(book.getId())).withSelfRel());
-                })
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minYear,
+            @RequestParam(required = false) Integer maxYear,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Boolean itemLinks) {
+        BookFilter filter = new BookFilter(category, author, minPrice, maxPrice, minYear, maxYear);
+        BookSort bookSort = BookSortParser.parse(sort);
+        // Listings are read-only, so they take the projection path instead of loading Book entities
+        PagedResult<BookView> pagedViews = getBookUseCase.getBookViews(filter, page, size, bookSort);
+
+        List<BookResponseDTO> bodies = pagedViews.getContent().stream()
+                .map(BookWebMapper::toResponseDTO)
                 .toList();
+        List<EntityModel<BookResponseDTO>> items = toItemModels(bodies, itemLinks);
 
-        Link selfLink = linkTo(methodOn(BookController.class).getAllBooks(page, size)).withSelfRel();
+        Link selfLink = linkTo(methodOn(BookController.class)
+                .getAllBooks(page, size, category, author, minPrice, maxPrice, minYear, maxYear, sort, itemLinks)).withSelfRel();
 
         CollectionModel<EntityModel<BookResponseDTO>> collection = CollectionModel.of(items, selfLink);
 
         return ResponseEntity.status(HttpStatus.OK).body(collection);
     }
 
+    @GetMapping(value = "", params = "ids")
+    public ResponseEntity<BookBatchResponseDTO> getBooksByIds(@RequestParam List<Long> ids, HttpServletRequest request) {
+        requireOnly(request, IDS_PARAMS, "ids");
+        BookBatchResult result = getBookUseCase.getBooksByIds(ids);
+
+        BookBatchResponseDTO body = new BookBatchResponseDTO(
+                BookWebMapper.toResponseDTOList(result.getBooks()),
+                result.getMissingIds()
+        );
+
+        return ResponseEntity.status(HttpStatus.OK).body(body);
+    }
+
+    // The listing modes are mutually exclusive mappings: ids wins, then slice=true, then after
+    @GetMapping(value = "", params = {"slice=true", "!ids"})
+    public ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> getBooksSlice(
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
+            @RequestParam(required = false) Boolean itemLinks,
+            HttpServletRequest request) {
+        requireOnly(request, SLICE_PARAMS, "slice=true");
+        SliceResult<Book> slicedBooks = getBookUseCase.getBooksSlice(page, size);
+
+        List<EntityModel<BookResponseDTO>> items = toItemModels(BookWebMapper.toResponseDTOList(slicedBooks.getContent()), itemLinks);
+
+        List<Link> links = new ArrayList<>();
+        links.add(sliceLink(page, size, itemLinks, IanaLinkRelations.SELF));
+        if (page > 0) {
+            links.add(sliceLink(page - 1, size, itemLinks, IanaLinkRelations.PREV));
+        }
+        if (slicedBooks.isHasNext()) {
+            links.add(sliceLink(page + 1, size, itemLinks, IanaLinkRelations.NEXT));
+        }
+
+        CollectionModel<EntityModel<BookResponseDTO>> collection = CollectionModel.of(items, links);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (slicedBooks.getApproximateTotalElements() != null) {
+            response.header(TOTAL_COUNT_ESTIMATE_HEADER, String.valueOf(slicedBooks.getApproximateTotalElements()));
+        }
+        return response.body(collection);
+    }
+
+    @GetMapping(value = "", params = {"after", "!ids", "slice!=true"})
+    public ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> getBooksByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Boolean itemLinks,
+            HttpServletRequest request) {
+        requireOnly(request, CURSOR_PARAMS, "after");
+        BookSort bookSort = BookSortParser.parse(sort);
+        CursorResult<Book> cursorBooks =
+                getBookUseCase.getBooksAfter(BookCursorCodec.decode(after, bookSort), size, bookSort);
+        List<Book> books = cursorBooks.getContent();
+
+        List<EntityModel<BookResponseDTO>> items = toItemModels(BookWebMapper.toResponseDTOList(books), itemLinks);
+
+        List<Link> links = new ArrayList<>();
+        links.add(linkTo(methodOn(BookController.class).getBooksByCursor(after, size, sort, itemLinks, null)).withSelfRel());
+        if (cursorBooks.isHasNext() && !books.isEmpty()) {
+            String next = BookCursorCodec.encode(bookSort, books.get(books.size() - 1));
+            links.add(linkTo(methodOn(BookController.class).getBooksByCursor(next, size, sort, itemLinks, null))
+                    .withRel(IanaLinkRelations.NEXT));
+        }
+
+        CollectionModel<EntityModel<BookResponseDTO>> collection = CollectionModel.of(items, links);
+
+        return ResponseEntity.status(HttpStatus.OK).body(collection);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> searchBooks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size) {
+        PagedResult<Book> matches = searchBooksUseCase.searchBooks(q, page, size);
+
+        List<EntityModel<BookResponseDTO>> items = toItemModels(BookWebMapper.toResponseDTOList(matches.getContent()), null);
+
+        List<Link> links = new ArrayList<>();
+        links.add(linkTo(methodOn(BookController.class).searchBooks(q, page, size)).withSelfRel());
+        if (page + 1 < matches.getTotalPages()) {
+            links.add(linkTo(methodOn(BookController.class).searchBooks(q, page + 1, size)).withRel(IanaLinkRelations.NEXT));
+        }
+
+        CollectionModel<EntityModel<BookResponseDTO>> collection = CollectionModel.of(items, links);
+
+        return ResponseEntity.status(HttpStatus.OK).body(collection);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EntityModel<BookResponseDTO>> updateBook(@NotNull @PathVariable Long id,
-                                                                   @Valid @RequestBody BookRequestDTO request) {
+                                                                   @Valid @RequestBody BookRequestDTO request,
+                                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         UpdateBookCommand command = BookUpdateWebMapper.toDomain(request);
-        BookResponseDTO body = BookWebMapper.toResponseDTO(updateBookUseCase.updateBook(id, command));
+        Book updated = updateBookUseCase.updateBook(id, command, BookETag.parseIfMatch(ifMatch));
+        BookResponseDTO body = BookWebMapper.toResponseDTO(updated);
 
         EntityModel<BookResponseDTO> resource = toBookResource(id, body);
 
-        return ResponseEntity.status(HttpStatus.OK).body(resource);
+        return withETag(updated).body(resource);
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<EntityModel<BookResponseDTO>> partialUpdateBook(@NotNull @PathVariable Long id,
-                                                                          @Valid @RequestBody BookUpdateRequestDTO request) {
+                                                                          @Valid @RequestBody BookUpdateRequestDTO request,
+                                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         PartialUpdateBookCommand command = BookUpdateWebMapper.toDomain(request);
-        BookResponseDTO body = BookWebMapper.toResponseDTO(updateBookUseCase.partialUpdateBook(id, command));
+        Book updated = updateBookUseCase.partialUpdateBook(id, command, BookETag.parseIfMatch(ifMatch));
+        BookResponseDTO body = BookWebMapper.toResponseDTO(updated);
 
         EntityModel<BookResponseDTO> resource = toBookResource(id, body);
 
-        return ResponseEntity.status(HttpStatus.OK).body(resource);
+        return withETag(updated).body(resource);
     }
 
     @DeleteMapping("/{id}")
@@ -118,11 +255,63 @@ public class BookController {
         deleteBookUseCase.deleteBook(id);
     }
 
+    @DeleteMapping(value = "", params = "ids")
+    public ResponseEntity<BookBatchDeleteResponseDTO> deleteBooksByIds(@RequestParam List<Long> ids) {
+        BookBatchDeleteResult result = deleteBookUseCase.deleteBooksByIds(ids);
+
+        BookBatchDeleteResponseDTO body = new BookBatchDeleteResponseDTO(
+                result.getDeletedIds(),
+                result.getMissingIds()
+        );
+
+        return ResponseEntity.status(HttpStatus.OK).body(body);
+    }
+
+    // A filter or sort the mode cannot apply is an error, not a silently unfiltered 200
+    private static void requireOnly(HttpServletRequest request, Set<String> supported, String mode) {
+        for (String name : request.getParameterMap().keySet()) {
+            if (LISTING_PARAMS.contains(name) && !supported.contains(name)) {
+                throw new InvalidRequestException("Parameter '" + name + "' cannot be combined with " + mode + ".");
+            }
+        }
+    }
+
+    // itemLinks=false leaves items without links, for bulk consumers that only need the data
+    private static List<EntityModel<BookResponseDTO>> toItemModels(List<BookResponseDTO> bodies, Boolean itemLinks) {
+        if (Boolean.FALSE.equals(itemLinks)) {
+            return bodies.stream()
+                    .map(EntityModel::of)
+                    .toList();
+        }
+
+        BookLinkTemplate links = BookLinkTemplate.forCurrentRequest();
+        return bodies.stream()
+                .map(body -> EntityModel.of(body, links.self(body.id())))
+                .toList();
+    }
+
+    // slice=true is a mapping condition rather than a method argument, so it has to be added to the link explicitly
+    private Link sliceLink(int page, int size, Boolean itemLinks, LinkRelation rel) {
+        String href = linkTo(methodOn(BookController.class).getBooksSlice(page, size, itemLinks, null))
+                .toUriComponentsBuilder()
+                .queryParam("slice", true)
+                .toUriString();
+        return Link.of(href, rel);
+    }
+
+    // The ETag carries the version clients send back in If-Match on PUT/PATCH
+    private static ResponseEntity.BodyBuilder withETag(Book book) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK);
+        String eTag = BookETag.of(book.getVersion());
+        return eTag == null ? builder : builder.eTag(eTag);
+    }
+
     // Helper to consistently build HATEOAS resource for a single book
     private EntityModel<BookResponseDTO> toBookResource(Long id, BookResponseDTO body) {
         return EntityModel.of(body,
                 linkTo(methodOn(BookController.class).getBook(id)).withSelfRel(),
-                linkTo(methodOn(BookController.class).getAllBooks(DEFAULT_PAGE, DEFAULT_SIZE)).withRel("books"));
+                linkTo(methodOn(BookController.class)
+                        .getAllBooks(DEFAULT_PAGE, DEFAULT_SIZE, null, null, null, null, null, null, null, null)).withRel("books"));
     }
 
 }
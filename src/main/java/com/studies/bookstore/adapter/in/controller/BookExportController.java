@@ -0,0 +1,78 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.studies.bookstore.adapter.in.controller.dto.BookResponseDTO;
+import com.studies.bookstore.adapter.in.controller.mapper.BookWebMapper;
+import com.studies.bookstore.application.port.in.ExportBooksUseCase;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/v1/books")
+@SecurityRequirement(name = "bearerAuth")
+public class BookExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookExportController.class);
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportBooksUseCase exportBooksUseCase;
+    private final ObjectWriter bookWriter;
+
+    public BookExportController(ExportBooksUseCase exportBooksUseCase, ObjectMapper objectMapper) {
+        this.exportBooksUseCase = exportBooksUseCase;
+        // Keep the response stream open between rows
+        this.bookWriter = objectMapper.writerFor(BookResponseDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Writes one JSON object per line as books are read, so memory use does not grow with the catalog.
+     * The status is committed before the first row; a failure part-way through ends the stream early.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks() {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            try {
+                long exported = exportBooksUseCase.exportBooks(book -> writeLine(out, BookWebMapper.toResponseDTO(book)));
+                logger.debug("Streamed {} books", exported);
+            } catch (UncheckedIOException ex) {
+                // Usually the client went away; there is nobody left to send an error to
+                logger.warn("Book export aborted: {}", ex.getMessage());
+                throw ex.getCause();
+            }
+            out.flush();
+        };
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"books.ndjson\"")
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, BookResponseDTO dto) {
+        try {
+            bookWriter.writeValue(out, dto);
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
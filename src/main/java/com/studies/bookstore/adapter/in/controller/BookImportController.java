@@ -0,0 +1,65 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studies.bookstore.adapter.in.controller.dto.BookImportResponseDTO;
+import com.studies.bookstore.adapter.in.controller.mapper.BookImportReader;
+import com.studies.bookstore.adapter.in.controller.mapper.BookImportWebMapper;
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.BookImportResult;
+import com.studies.bookstore.application.model.BookImportRow;
+import com.studies.bookstore.application.port.in.ImportBooksUseCase;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+@RestController
+@RequestMapping("/api/v1/books")
+@SecurityRequirement(name = "bearerAuth")
+public class BookImportController {
+
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final ImportBooksUseCase importBooksUseCase;
+    private final ObjectMapper objectMapper;
+
+    public BookImportController(ImportBooksUseCase importBooksUseCase, ObjectMapper objectMapper) {
+        this.importBooksUseCase = importBooksUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    // The body is read as a stream rather than bound to an object, so its size is not limited by memory
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    public ResponseEntity<BookImportResponseDTO> importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                             InputStream body) throws IOException {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body,
+                mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8))) {
+            Iterator<BookImportRow> rows;
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))) {
+                rows = BookImportReader.csv(reader);
+            } else if (mediaType.isCompatibleWith(MediaType.parseMediaType(APPLICATION_NDJSON))) {
+                rows = BookImportReader.ndjson(reader, objectMapper);
+            } else {
+                throw new InvalidRequestException("Unsupported import content type: " + contentType);
+            }
+
+            BookImportResult result = importBooksUseCase.importBooks(rows);
+            return ResponseEntity.status(HttpStatus.OK).body(BookImportWebMapper.toResponseDTO(result));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import org.springframework.hateoas.Link;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Self-link template for the books of one response. The books URI is resolved through {@code linkTo} once,
+ * so host, context path and forwarded headers of the current request are honoured; every item link is then
+ * that prefix plus the id, instead of a {@code methodOn} proxy call and a reflective URI build per book.
+ */
+final class BookLinkTemplate {
+
+    private final String itemPrefix;
+
+    private BookLinkTemplate(String itemPrefix) {
+        this.itemPrefix = itemPrefix;
+    }
+
+    static BookLinkTemplate forCurrentRequest() {
+        return new BookLinkTemplate(linkTo(BookController.class).toUri() + "/");
+    }
+
+    Link self(Long id) {
+        return Link.of(itemPrefix + id);
+    }
+}
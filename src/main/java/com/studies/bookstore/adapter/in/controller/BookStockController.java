@@ -0,0 +1,42 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import com.studies.bookstore.adapter.in.controller.dto.BookResponseDTO;
+import com.studies.bookstore.adapter.in.controller.dto.StockRequestDTO;
+import com.studies.bookstore.adapter.in.controller.mapper.BookWebMapper;
+import com.studies.bookstore.application.port.in.ReserveStockUseCase;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/books")
+@SecurityRequirement(name = "bearerAuth")
+public class BookStockController {
+
+    private final ReserveStockUseCase reserveStockUseCase;
+
+    public BookStockController(ReserveStockUseCase reserveStockUseCase) {
+        this.reserveStockUseCase = reserveStockUseCase;
+    }
+
+    @PostMapping("/{id}/stock/reserve")
+    public ResponseEntity<BookResponseDTO> reserveStock(@NotNull @PathVariable Long id,
+                                                        @Valid @RequestBody StockRequestDTO request) {
+        BookResponseDTO body = BookWebMapper.toResponseDTO(reserveStockUseCase.reserveStock(id, request.quantity()));
+        return ResponseEntity.status(HttpStatus.OK).body(body);
+    }
+
+    @PostMapping("/{id}/stock/release")
+    public ResponseEntity<BookResponseDTO> releaseStock(@NotNull @PathVariable Long id,
+                                                        @Valid @RequestBody StockRequestDTO request) {
+        BookResponseDTO body = BookWebMapper.toResponseDTO(reserveStockUseCase.releaseStock(id, request.quantity()));
+        return ResponseEntity.status(HttpStatus.OK).body(body);
+    }
+}
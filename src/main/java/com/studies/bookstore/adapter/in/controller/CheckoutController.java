@@ -0,0 +1,37 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import com.studies.bookstore.adapter.in.controller.dto.OrderResponseDTO;
+import com.studies.bookstore.adapter.in.controller.mapper.OrderWebMapper;
+import com.studies.bookstore.application.port.in.CheckoutUseCase;
+import com.studies.bookstore.domain.model.Order;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/cart")
+@SecurityRequirement(name = "bearerAuth")
+public class CheckoutController {
+
+    private final CheckoutUseCase checkoutUseCase;
+
+    public CheckoutController(CheckoutUseCase checkoutUseCase) {
+        this.checkoutUseCase = checkoutUseCase;
+    }
+
+    @PostMapping("/checkout")
+    public ResponseEntity<OrderResponseDTO> checkout() {
+        Order order = checkoutUseCase.checkout(getCurrentUserId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(OrderWebMapper.toResponseDTO(order));
+    }
+
+    private String getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getName();
+    }
+}
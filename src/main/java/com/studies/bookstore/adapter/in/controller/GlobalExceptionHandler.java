@@ -2,10 +2,15 @@ package com.studies.bookstore.adapter.in.controller;
 
 import com.studies.bookstore.adapter.in.controller.error.ApiErrorResponse;
 import com.studies.bookstore.adapter.in.controller.error.ErrorCode;
+import com.studies.bookstore.adapter.in.controller.mapper.BookETag;
+import com.studies.bookstore.application.exception.InsufficientStockException;
 import com.studies.bookstore.application.exception.InvalidRequestException;
 import com.studies.bookstore.application.exception.RequestNotFoundException;
+import com.studies.bookstore.application.exception.VersionConflictException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -41,6 +46,29 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 412 only answers a failed If-Match check; an unconditional write that lost a race is a plain 409
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ApiErrorResponse> handleVersionConflict(VersionConflictException ex, HttpServletRequest request) {
+        logger.warn("Handling VersionConflictException: {}", ex.getMessage());
+        return build(
+                BookETag.expectsVersion(request.getHeader(HttpHeaders.IF_MATCH))
+                        ? HttpStatus.PRECONDITION_FAILED
+                        : HttpStatus.CONFLICT,
+                ErrorCode.VERSION_CONFLICT,
+                ex
+        );
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ApiErrorResponse> handleInsufficientStock(InsufficientStockException ex) {
+        logger.warn("Handling InsufficientStockException: {}", ex.getMessage());
+        return build(
+                HttpStatus.CONFLICT,
+                ErrorCode.INSUFFICIENT_STOCK,
+                ex
+        );
+    }
+
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleNoHandlerFound(NoHandlerFoundException ex) {
         logger.warn("NoHandlerFoundException for URL='{}'", ex.getRequestURL());
@@ -0,0 +1,9 @@
+package com.studies.bookstore.adapter.in.controller.dto;
+
+import java.util.List;
+
+public record BookBatchDeleteResponseDTO(
+        List<Long> deletedIds,
+        List<Long> missingIds
+) {
+}
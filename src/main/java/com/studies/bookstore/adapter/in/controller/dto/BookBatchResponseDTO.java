@@ -0,0 +1,9 @@
+package com.studies.bookstore.adapter.in.controller.dto;
+
+import java.util.List;
+
+public record BookBatchResponseDTO(
+        List<BookResponseDTO> books,
+        List<Long> missingIds
+) {
+}
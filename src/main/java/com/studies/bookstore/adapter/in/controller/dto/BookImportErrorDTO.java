@@ -0,0 +1,7 @@
+package com.studies.bookstore.adapter.in.controller.dto;
+
+public record BookImportErrorDTO(
+        long line,
+        String message
+) {
+}
@@ -0,0 +1,11 @@
+package com.studies.bookstore.adapter.in.controller.dto;
+
+import java.util.List;
+
+public record BookImportResponseDTO(
+        long importedCount,
+        long failedCount,
+        List<BookImportErrorDTO> errors,
+        boolean errorsTruncated
+) {
+}
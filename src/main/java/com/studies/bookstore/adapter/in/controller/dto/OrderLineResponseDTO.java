@@ -0,0 +1,12 @@
+package com.studies.bookstore.adapter.in.controller.dto;
+
+import java.math.BigDecimal;
+
+public record OrderLineResponseDTO(
+        Long bookId,
+        String title,
+        BigDecimal unitPrice,
+        int quantity,
+        BigDecimal subtotal
+) {
+}
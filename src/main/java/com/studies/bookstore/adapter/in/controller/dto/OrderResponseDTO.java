@@ -0,0 +1,14 @@
+package com.studies.bookstore.adapter.in.controller.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public record OrderResponseDTO(
+        Long id,
+        String userId,
+        List<OrderLineResponseDTO> lines,
+        BigDecimal total,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.studies.bookstore.adapter.in.controller.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record StockRequestDTO(
+        @NotNull(message = "quantity is required")
+        @Positive(message = "quantity must be positive")
+        Integer quantity
+) {
+}
@@ -3,6 +3,8 @@ package com.studies.bookstore.adapter.in.controller.error;
 public enum ErrorCode {
     REQUEST_NOT_FOUND,
     BAD_REQUEST,
+    VERSION_CONFLICT,
+    INSUFFICIENT_STOCK,
     VALIDATION_ERROR,
     INTERNAL_ERROR,
     UNAUTHORIZED
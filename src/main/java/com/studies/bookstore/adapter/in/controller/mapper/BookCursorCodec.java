@@ -0,0 +1,76 @@
+package com.studies.bookstore.adapter.in.controller.mapper;
+
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.domain.model.Book;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the position of the last book of a page into an opaque, URL-safe cursor.
+ * Clients only ever echo the cursor back, so its format can change without breaking them.
+ * <p>
+ * A cursor records the sort it was issued for and is rejected under any other sort.
+ */
+public class BookCursorCodec {
+
+    private static final String SEPARATOR = ":";
+
+    private BookCursorCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String encode(BookSort sort, Book last) {
+        String value = switch (sort.property()) {
+            case ID -> "";
+            case PRICE -> last.getPrice().toPlainString();
+            case PUBLICATION_YEAR -> String.valueOf(last.getPublicationYear());
+            case TITLE -> last.getTitle();
+        };
+        // The value goes last because titles may contain the separator
+        String raw = sort.property() + SEPARATOR + sort.direction() + SEPARATOR + last.getId() + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the position to continue after, or {@code null} when the cursor is blank (first page)
+     */
+    public static BookKeyset decode(String cursor, BookSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new InvalidRequestException("Invalid cursor.");
+            }
+            BookSort issuedFor = new BookSort(BookSort.Property.valueOf(parts[0]), BookSort.Direction.valueOf(parts[1]));
+            requireSort(sort, issuedFor);
+
+            Long lastId = Long.parseLong(parts[2]);
+            if (sort.property() == BookSort.Property.ID) {
+                return new BookKeyset(null, lastId);
+            }
+            // Parse once here so a tampered value fails as a bad request rather than in the query
+            if (sort.property() == BookSort.Property.PRICE) {
+                new BigDecimal(parts[3]);
+            } else if (sort.property() == BookSort.Property.PUBLICATION_YEAR) {
+                Integer.parseInt(parts[3]);
+            }
+            return new BookKeyset(parts[3], lastId);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Invalid cursor.");
+        }
+    }
+
+    private static void requireSort(BookSort requested, BookSort issuedFor) {
+        if (!requested.equals(issuedFor)) {
+            throw new InvalidRequestException("Cursor does not match the requested sort.");
+        }
+    }
+}
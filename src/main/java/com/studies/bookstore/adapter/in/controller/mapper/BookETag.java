@@ -0,0 +1,46 @@
+package com.studies.bookstore.adapter.in.controller.mapper;
+
+import com.studies.bookstore.application.exception.InvalidRequestException;
+
+/**
+ * Maps a book version to a strong entity tag ({@code "3"}) and back from an {@code If-Match} header.
+ */
+public class BookETag {
+
+    private static final String ANY = "*";
+    private static final String QUOTE = "\"";
+
+    private BookETag() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String of(Long version) {
+        return version == null ? null : QUOTE + version + QUOTE;
+    }
+
+    /**
+     * @return whether the header names a version to check, i.e. is present and not {@code *}
+     */
+    public static boolean expectsVersion(String ifMatch) {
+        return ifMatch != null && !ifMatch.isBlank() && !ANY.equals(ifMatch.trim());
+    }
+
+    /**
+     * @return the version the client expects, or {@code null} when the header is absent or {@code *}
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (!expectsVersion(ifMatch)) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith(QUOTE) || !tag.endsWith(QUOTE)) {
+            throw new InvalidRequestException("If-Match must be a single strong entity tag.");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException("If-Match must be a single strong entity tag.");
+        }
+    }
+}
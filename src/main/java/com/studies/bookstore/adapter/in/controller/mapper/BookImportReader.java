@@ -0,0 +1,194 @@
+package com.studies.bookstore.adapter.in.controller.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.BookImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Turns an uploaded CSV or NDJSON body into {@link BookImportRow}s one line at a time,
+ * so an import never holds more than the current line in memory.
+ * <p>
+ * CSV needs a header naming the columns (any order): title, author, category, price, publicationYear, quantity.
+ * Fields may be double-quoted with {@code ""} as an escaped quote; quoted line breaks are not supported.
+ * NDJSON expects one JSON object per line with the same property names.
+ */
+public class BookImportReader {
+
+    static final String TITLE = "title";
+    static final String AUTHOR = "author";
+    static final String CATEGORY = "category";
+    static final String PRICE = "price";
+    static final String PUBLICATION_YEAR = "publicationYear";
+    static final String QUANTITY = "quantity";
+
+    private static final List<String> COLUMNS = List.of(TITLE, AUTHOR, CATEGORY, PRICE, PUBLICATION_YEAR, QUANTITY);
+
+    private BookImportReader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Iterator<BookImportRow> csv(BufferedReader reader) {
+        String header = readLine(reader);
+        if (header == null) {
+            throw new InvalidRequestException("CSV import must start with a header line.");
+        }
+
+        List<String> headerFields = splitCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        if (headerFields == null) {
+            throw new InvalidRequestException("CSV header is malformed.");
+        }
+        headerFields = headerFields.stream().map(String::trim).toList();
+        int[] positions = new int[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            positions[i] = headerFields.indexOf(COLUMNS.get(i));
+            if (positions[i] < 0) {
+                throw new InvalidRequestException("CSV header is missing column '" + COLUMNS.get(i) + "'.");
+            }
+        }
+
+        return new LineIterator(reader, 1) {
+            @Override
+            BookImportRow parse(long lineNumber, String line) {
+                List<String> fields = splitCsvLine(line);
+                if (fields == null) {
+                    return BookImportRow.malformed(lineNumber, "Unterminated quoted field");
+                }
+                return BookImportRow.of(lineNumber,
+                        field(fields, positions[0]),
+                        field(fields, positions[1]),
+                        field(fields, positions[2]),
+                        field(fields, positions[3]),
+                        field(fields, positions[4]),
+                        field(fields, positions[5]));
+            }
+        };
+    }
+
+    public static Iterator<BookImportRow> ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new LineIterator(reader, 0) {
+            @Override
+            BookImportRow parse(long lineNumber, String line) {
+                JsonNode node;
+                try {
+                    node = objectMapper.readTree(line);
+                } catch (JsonProcessingException ex) {
+                    return BookImportRow.malformed(lineNumber, "Invalid JSON: " + ex.getOriginalMessage());
+                }
+                if (!node.isObject()) {
+                    return BookImportRow.malformed(lineNumber, "Expected a JSON object");
+                }
+                return BookImportRow.of(lineNumber,
+                        text(node, TITLE),
+                        text(node, AUTHOR),
+                        text(node, CATEGORY),
+                        text(node, PRICE),
+                        text(node, PUBLICATION_YEAR),
+                        text(node, QUANTITY));
+            }
+        };
+    }
+
+    /**
+     * @return the fields of the line, or {@code null} when a quoted field is not closed
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static String field(List<String> fields, int position) {
+        return position < fields.size() ? fields.get(position) : null;
+    }
+
+    private static String text(JsonNode node, String property) {
+        JsonNode value = node.get(property);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Reads ahead one non-blank line so {@link #hasNext()} is accurate; blank lines are skipped.
+     */
+    private abstract static class LineIterator implements Iterator<BookImportRow> {
+
+        private final BufferedReader reader;
+        private long lineNumber;
+        private String nextLine;
+
+        LineIterator(BufferedReader reader, long linesAlreadyRead) {
+            this.reader = reader;
+            this.lineNumber = linesAlreadyRead;
+        }
+
+        abstract BookImportRow parse(long lineNumber, String line);
+
+        @Override
+        public boolean hasNext() {
+            while (nextLine == null) {
+                String line = readLine(reader);
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public BookImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = nextLine;
+            nextLine = null;
+            return parse(lineNumber, line);
+        }
+    }
+}
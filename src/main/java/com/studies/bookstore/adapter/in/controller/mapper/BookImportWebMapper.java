@@ -0,0 +1,23 @@
+package com.studies.bookstore.adapter.in.controller.mapper;
+
+import com.studies.bookstore.adapter.in.controller.dto.BookImportErrorDTO;
+import com.studies.bookstore.adapter.in.controller.dto.BookImportResponseDTO;
+import com.studies.bookstore.application.model.BookImportResult;
+
+public class BookImportWebMapper {
+
+    private BookImportWebMapper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static BookImportResponseDTO toResponseDTO(BookImportResult result) {
+        return new BookImportResponseDTO(
+                result.getImportedCount(),
+                result.getFailedCount(),
+                result.getErrors().stream()
+                        .map(error -> new BookImportErrorDTO(error.lineNumber(), error.message()))
+                        .toList(),
+                result.isErrorsTruncated()
+        );
+    }
+}
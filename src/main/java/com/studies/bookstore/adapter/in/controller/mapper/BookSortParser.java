@@ -0,0 +1,45 @@
+package com.studies.bookstore.adapter.in.controller.mapper;
+
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.BookSort;
+
+import java.util.Locale;
+
+/**
+ * Parses the {@code sort} query parameter, e.g. {@code price}, {@code price,desc} or {@code publicationYear,asc}.
+ */
+public class BookSortParser {
+
+    private BookSortParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static BookSort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return BookSort.DEFAULT;
+        }
+
+        String[] parts = sort.split(",", -1);
+        if (parts.length > 2) {
+            throw new InvalidRequestException("Invalid sort: " + sort);
+        }
+
+        BookSort.Property property = switch (parts[0].trim()) {
+            case "id" -> BookSort.Property.ID;
+            case "price" -> BookSort.Property.PRICE;
+            case "publicationYear" -> BookSort.Property.PUBLICATION_YEAR;
+            case "title" -> BookSort.Property.TITLE;
+            default -> throw new InvalidRequestException(
+                    "Invalid sort property: " + parts[0] + ". Allowed: id, price, publicationYear, title.");
+        };
+
+        if (parts.length == 1) {
+            return new BookSort(property, BookSort.Direction.ASC);
+        }
+        return switch (parts[1].trim().toLowerCase(Locale.ROOT)) {
+            case "asc" -> new BookSort(property, BookSort.Direction.ASC);
+            case "desc" -> new BookSort(property, BookSort.Direction.DESC);
+            default -> throw new InvalidRequestException("Invalid sort direction: " + parts[1] + ". Allowed: asc, desc.");
+        };
+    }
+}
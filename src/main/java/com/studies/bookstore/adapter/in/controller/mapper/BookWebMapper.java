@@ -2,6 +2,7 @@ package com.studies.bookstore.adapter.in.controller.mapper;
 
 import com.studies.bookstore.adapter.in.controller.dto.BookRequestDTO;
 import com.studies.bookstore.adapter.in.controller.dto.BookResponseDTO;
+import com.studies.bookstore.application.model.BookView;
 import com.studies.bookstore.domain.model.Book;
 
 import java.util.List;
@@ -38,6 +39,18 @@ public class BookWebMapper {
         );
     }
 
+    public static BookResponseDTO toResponseDTO(BookView view) {
+
+        return new BookResponseDTO(
+                view.id(),
+                view.title(),
+                view.author(),
+                view.category(),
+                view.price(),
+                view.publicationYear(),
+                view.quantity()
+        );
+    }
 
     public static List<BookResponseDTO> toResponseDTOList(List<Book> allBooks) {
         return allBooks.stream()
@@ -0,0 +1,38 @@
+package com.studies.bookstore.adapter.in.controller.mapper;
+
+import com.studies.bookstore.adapter.in.controller.dto.OrderLineResponseDTO;
+import com.studies.bookstore.adapter.in.controller.dto.OrderResponseDTO;
+import com.studies.bookstore.domain.model.Order;
+import com.studies.bookstore.domain.model.OrderLine;
+
+import java.util.List;
+
+public final class OrderWebMapper {
+
+    private OrderWebMapper() {
+    }
+
+    public static OrderResponseDTO toResponseDTO(Order order) {
+        List<OrderLineResponseDTO> lines = order.getLines().stream()
+                .map(OrderWebMapper::toLineResponseDTO)
+                .toList();
+
+        return new OrderResponseDTO(
+                order.getId(),
+                order.getUserId(),
+                lines,
+                order.getTotal(),
+                order.getCreatedAt()
+        );
+    }
+
+    private static OrderLineResponseDTO toLineResponseDTO(OrderLine line) {
+        return new OrderLineResponseDTO(
+                line.getBookId(),
+                line.getTitle(),
+                line.getUnitPrice(),
+                line.getQuantity(),
+                line.getSubtotal()
+        );
+    }
+}
@@ -2,25 +2,39 @@ package com.studies.bookstore.adapter.out.persistence;
 
 import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
 import com.studies.bookstore.adapter.out.persistence.mapper.BookPersistenceMapper;
-import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.model.SliceResult;
+import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
 import com.studies.bookstore.application.port.out.BookRepositoryPort;
 import com.studies.bookstore.domain.model.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.transaction.Transactional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.stereotype.Component;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-@Component
+// @Repository so failed native statements surface as DataAccessException, as they do from the JDBC adapter
+@Repository
 public class BookRepositoryAdapter implements BookRepositoryPort {
 
     private final JpaBookRepository repository;
+    private final EntityManager entityManager;
 
-    public BookRepositoryAdapter(JpaBookRepository repository) {
+    public BookRepositoryAdapter(JpaBookRepository repository, EntityManager entityManager) {
         this.repository = repository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -33,6 +47,46 @@ public class BookRepositoryAdapter implements BookRepositoryPort {
         return BookPersistenceMapper.toDomain(savedEntity);
     }
 
+    /**
+     * Inserts all books with one multi-row INSERT ... RETURNING. IDENTITY ids keep Hibernate from
+     * batching persist calls, so this is a native statement; callers bound the list size
+     * (six parameters per row, at most 65535 per statement).
+     */
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<Book> insertAll(List<Book> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO books (title, author, category, price, publication_year, quantity) VALUES ");
+        for (int i = 0; i < books.size(); i++) {
+            int p = i * 6;
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(?").append(p + 1).append(", ?").append(p + 2).append(", ?").append(p + 3)
+                    .append(", ?").append(p + 4).append(", ?").append(p + 5).append(", ?").append(p + 6).append(')');
+        }
+        sql.append(" RETURNING ").append(BookRows.COLUMNS);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (Book book : books) {
+            query.setParameter(position++, book.getTitle());
+            query.setParameter(position++, book.getAuthor());
+            query.setParameter(position++, book.getCategory());
+            query.setParameter(position++, book.getPrice());
+            query.setParameter(position++, book.getPublicationYear());
+            query.setParameter(position++, book.getQuantity());
+        }
+
+        // Each book is built from its own returned row, so no assumption is made about the order of the rows
+        return ((List<Object[]>) query.getResultList()).stream()
+                .map(BookRepositoryAdapter::toBook)
+                .toList();
+    }
+
     @Override
     public Optional<Book> findById(Long id) {
         return repository.findById(id)
@@ -40,34 +94,232 @@ public class BookRepositoryAdapter implements BookRepositoryPort {
     }
 
     @Override
-    public PagedResult<Book> findAll(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<JpaBookEntity> pageResult = repository.findAll(pageable);
-
-        List<Book> content = BookPersistenceMapper.toDomainList(pageResult.getContent());
-
-        return new PagedResult<>(
-                content,
-                pageResult.getTotalElements(),
-                pageResult.getTotalPages(),
-                pageResult.getNumber(),
-                pageResult.getSize()
+    public boolean existsById(Long id) {
+        return repository.existsById(id);
+    }
+
+    @Override
+    public List<Book> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return BookPersistenceMapper.toDomainList(repository.findAllByIdArray(BookRows.toIdArray(ids)));
+    }
+
+    @Override
+    public SliceResult<Book> findSlice(int page, int size) {
+        // A Slice fetches size + 1 rows to compute hasNext and never issues a COUNT(*)
+        Slice<JpaBookEntity> sliceResult = repository.findAllBy(PageRequest.of(page, size, Sort.by("id")));
+
+        return new SliceResult<>(
+                BookPersistenceMapper.toDomainList(sliceResult.getContent()),
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                sliceResult.hasNext()
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CursorResult<Book> findAllAfter(BookKeyset after, int size, BookSort sort) {
+        String column = BookRows.sortColumn(sort.property());
+        String direction = sort.isDescending() ? "DESC" : "ASC";
+        boolean byId = sort.property() == BookSort.Property.ID;
+
+        // Row-value comparison walks the (column, id) index in order; no OFFSET and no full sort
+        StringBuilder sql = new StringBuilder("SELECT ").append(BookRows.COLUMNS).append(" FROM books");
+        if (after != null) {
+            String comparison = sort.isDescending() ? " < " : " > ";
+            sql.append(byId
+                    ? " WHERE id" + comparison + ":lastId"
+                    : " WHERE (" + column + ", id)" + comparison + "(:lastValue, :lastId)");
+        }
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction);
+        if (!byId) {
+            sql.append(", id ").append(direction);
+        }
+        sql.append(" LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), JpaBookEntity.class)
+                .setParameter("limit", size + 1);
+        if (after != null) {
+            query.setParameter("lastId", after.lastId());
+            if (!byId) {
+                query.setParameter("lastValue", BookRows.sortValue(sort.property(), after.lastSortValue()));
+            }
+        }
+        List<JpaBookEntity> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<JpaBookEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return new CursorResult<>(
+                BookPersistenceMapper.toDomainList(pageRows),
+                size,
+                hasNext
         );
     }
 
+    @Override
+    public long estimateCount() {
+        Long estimate = repository.estimateRowCount();
+        if (estimate == null || estimate <= 0) {
+            return repository.count();
+        }
+        return estimate;
+    }
+
+    /**
+     * Streams the whole table through a forward-only cursor. Each entity is detached once mapped,
+     * so the persistence context, like the fetch buffer, stays the same size for any catalog size.
+     */
     @Override
     @Transactional
-    public Book update(Book retrievedBook) {
-        JpaBookEntity savedEntity = repository.save(
-                BookPersistenceMapper.toJpaEntity(retrievedBook)
-        );
+    public long forEachBook(Consumer<Book> action) {
+        long count = 0;
+        try (Stream<JpaBookEntity> rows = repository.streamAllOrderById()) {
+            Iterator<JpaBookEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                JpaBookEntity entity = iterator.next();
+                Book book = BookPersistenceMapper.toDomain(entity);
+                entityManager.detach(entity);
+                action.accept(book);
+                count++;
+            }
+        }
+        return count;
+    }
 
-        return BookPersistenceMapper.toDomain(savedEntity);
+    /**
+     * Writes the book with one native UPDATE ... RETURNING. Saving a detached entity would merge it,
+     * which SELECTs the row first; here the version check and the increment happen in the same statement.
+     * Rows come back as plain values, so no managed entity is returned with state older than the write.
+     */
+    @Override
+    @Transactional
+    public Optional<Book> update(Book book) {
+        boolean versioned = book.getVersion() != null;
+        Query query = entityManager.createNativeQuery(
+                "UPDATE books SET title = :title, author = :author, category = :category, price = :price, "
+                        + "publication_year = :publicationYear, quantity = :quantity, version = version + 1 "
+                        + "WHERE id = :id" + (versioned ? " AND version = :version" : "")
+                        + " RETURNING " + BookRows.COLUMNS)
+                .setParameter("title", book.getTitle())
+                .setParameter("author", book.getAuthor())
+                .setParameter("category", book.getCategory())
+                .setParameter("price", book.getPrice())
+                .setParameter("publicationYear", book.getPublicationYear())
+                .setParameter("quantity", book.getQuantity())
+                .setParameter("id", book.getId());
+        if (versioned) {
+            query.setParameter("version", book.getVersion());
+        }
+        return singleBook(query);
+    }
+
+    /**
+     * Applies a price/quantity patch as one UPDATE ... RETURNING that only sets the fields present,
+     * so no parameter is ever bound as an untyped null.
+     */
+    @Override
+    @Transactional
+    public Optional<Book> partialUpdate(Long id, PartialUpdateBookCommand command, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("UPDATE books SET ");
+        command.price().ifPresent(price -> sql.append("price = :price, "));
+        command.quantity().ifPresent(quantity -> sql.append("quantity = :quantity, "));
+        sql.append("version = version + 1 WHERE id = :id");
+        if (expectedVersion != null) {
+            sql.append(" AND version = :version");
+        }
+        sql.append(" RETURNING ").append(BookRows.COLUMNS);
+
+        Query query = entityManager.createNativeQuery(sql.toString()).setParameter("id", id);
+        command.price().ifPresent(price -> query.setParameter("price", price));
+        command.quantity().ifPresent(quantity -> query.setParameter("quantity", quantity));
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+        return singleBook(query);
+    }
+
+    /**
+     * The stock check and the decrement are one statement, so the row lock is held only for the UPDATE itself
+     * and concurrent reservations can never take the quantity below zero.
+     */
+    @Override
+    @Transactional
+    public Optional<Book> reserveStock(Long id, int quantity) {
+        return singleBook(entityManager.createNativeQuery(
+                        "UPDATE books SET quantity = quantity - :quantity, version = version + 1 "
+                                + "WHERE id = :id AND quantity >= :quantity RETURNING " + BookRows.COLUMNS)
+                .setParameter("quantity", quantity)
+                .setParameter("id", id));
+    }
+
+    @Override
+    @Transactional
+    public Optional<Book> releaseStock(Long id, int quantity) {
+        return singleBook(entityManager.createNativeQuery(
+                        "UPDATE books SET quantity = quantity + :quantity, version = version + 1 "
+                                + "WHERE id = :id RETURNING " + BookRows.COLUMNS)
+                .setParameter("quantity", quantity)
+                .setParameter("id", id));
     }
 
+    // JpaRepository.deleteById loads the entity before removing it; a plain DELETE reports the row count instead
     @Override
     @Transactional
-    public void deleteById(Long id) {
-        repository.deleteById(id);
+    public boolean deleteById(Long id) {
+        return entityManager.createNativeQuery("DELETE FROM books WHERE id = :id")
+                .setParameter("id", id)
+                .executeUpdate() > 0;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<Long> deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Number> deleted = entityManager.createNativeQuery(
+                        "DELETE FROM books WHERE id = ANY(CAST(:ids AS bigint[])) RETURNING id")
+                .setParameter("ids", BookRows.toIdArray(ids))
+                .getResultList();
+        return deleted.stream().map(Number::longValue).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Book> singleBook(Query query) {
+        return ((List<Object[]>) query.getResultList()).stream()
+                .findFirst()
+                .map(BookRepositoryAdapter::toBook);
     }
+
+    // Column order of BookRows.COLUMNS
+    private static Book toBook(Object[] row) {
+        return new Book(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (BigDecimal) row[4],
+                ((Number) row[5]).intValue(),
+                ((Number) row[6]).intValue(),
+                ((Number) row[7]).longValue()
+        );
+    }
+
+    static Sort toSort(BookSort sort) {
+        Sort.Direction direction = sort.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort byId = Sort.by(direction, "id");
+        return switch (sort.property()) {
+            case ID -> byId;
+            case PRICE -> Sort.by(direction, "price").and(byId);
+            case PUBLICATION_YEAR -> Sort.by(direction, "publicationYear").and(byId);
+            case TITLE -> Sort.by(direction, "title").and(byId);
+        };
+    }
+
+
 }
@@ -0,0 +1,74 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.domain.model.Book;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Column list, row mapping and SQL fragments shared by the statements that access {@code books} directly.
+ */
+final class BookRows {
+
+    static final String COLUMNS = "id, title, author, category, price, publication_year, quantity, version";
+
+    private BookRows() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static Book map(ResultSet rs, int rowNum) throws SQLException {
+        return new Book(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("author"),
+                rs.getString("category"),
+                rs.getBigDecimal("price"),
+                rs.getInt("publication_year"),
+                rs.getInt("quantity"),
+                rs.getLong("version")
+        );
+    }
+
+    static BookView mapView(ResultSet rs, int rowNum) throws SQLException {
+        return new BookView(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("author"),
+                rs.getString("category"),
+                rs.getBigDecimal("price"),
+                rs.getInt("publication_year"),
+                rs.getInt("quantity"),
+                rs.getLong("version")
+        );
+    }
+
+    // PostgreSQL array literal, e.g. {1,2,3}; built from Longs only
+    static String toIdArray(Collection<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    static String sortColumn(BookSort.Property property) {
+        return switch (property) {
+            case ID -> "id";
+            case PRICE -> "price";
+            case PUBLICATION_YEAR -> "publication_year";
+            case TITLE -> "title";
+        };
+    }
+
+    static Object sortValue(BookSort.Property property, String value) {
+        return switch (property) {
+            case ID -> Long.valueOf(value);
+            case PRICE -> new BigDecimal(value);
+            case PUBLICATION_YEAR -> Integer.valueOf(value);
+            case TITLE -> value;
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
+import com.studies.bookstore.application.model.BookFilter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates a {@link BookFilter} into plain equality and range predicates,
+ * which line up with the composite indexes created in the V5 migration.
+ */
+public class BookSpecifications {
+
+    private BookSpecifications() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Specification<JpaBookEntity> matching(BookFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.category() != null) {
+                predicates.add(cb.equal(root.get("category"), filter.category()));
+            }
+            if (filter.author() != null) {
+                predicates.add(cb.equal(root.get("author"), filter.author()));
+            }
+            if (filter.minPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), filter.minPrice()));
+            }
+            if (filter.maxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), filter.maxPrice()));
+            }
+            if (filter.minPublicationYear() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("publicationYear"), filter.minPublicationYear()));
+            }
+            if (filter.maxPublicationYear() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("publicationYear"), filter.maxPublicationYear()));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.port.out.BookQueryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Listing queries that select the book columns into {@link BookView} with a constructor expression.
+ * Hibernate returns the records as plain values: no entities enter the persistence context,
+ * so there are no snapshots to keep and nothing to dirty-check, and no domain mapping runs per row.
+ */
+@Component
+public class BookViewQueryAdapter implements BookQueryPort {
+
+    private final EntityManager entityManager;
+
+    public BookViewQueryAdapter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public PagedResult<BookView> findViews(BookFilter filter, int page, int size, BookSort sort) {
+        Specification<JpaBookEntity> specification = BookSpecifications.matching(filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<BookView> query = cb.createQuery(BookView.class);
+        Root<JpaBookEntity> root = query.from(JpaBookEntity.class);
+        query.select(cb.construct(BookView.class,
+                        root.get("id"),
+                        root.get("title"),
+                        root.get("author"),
+                        root.get("category"),
+                        root.get("price"),
+                        root.get("publicationYear"),
+                        root.get("quantity"),
+                        root.get("version")))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(BookRepositoryAdapter.toSort(sort), root, cb));
+
+        List<BookView> content = entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact((long) page * size))
+                .setMaxResults(size)
+                .getResultList();
+
+        long total = countViews(specification, content.size(), page, size);
+        int totalPages = (int) Math.ceil((double) total / size);
+
+        return new PagedResult<>(content, total, totalPages, page, size);
+    }
+
+    // A short, non-empty page (or a short first page) already tells the total, as in Spring Data's paging
+    private long countViews(Specification<JpaBookEntity> specification, int fetched, int page, int size) {
+        if (fetched < size && (fetched > 0 || page == 0)) {
+            return (long) page * size + fetched;
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<JpaBookEntity> root = count.from(JpaBookEntity.class);
+        count.select(cb.count(root)).where(specification.toPredicate(root, count, cb));
+        return entityManager.createQuery(count).getSingleResult();
+    }
+}
@@ -0,0 +1,278 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.model.SliceResult;
+import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import jakarta.transaction.Transactional;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link BookRepositoryPort} on plain JDBC: hand-written SQL, {@link BookRows} as the only row mapper,
+ * no entities and no persistence context.
+ * <p>
+ * Every statement is built from fixed fragments, so each query shape always produces the same SQL text.
+ * The PostgreSQL driver keys its per-connection prepared statement cache on that text and switches
+ * to a server-side prepared statement after a few executions, so repeated calls skip parsing and planning.
+ */
+public class JdbcBookRepositoryAdapter implements BookRepositoryPort {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO books (title, author, category, price, publication_year, quantity) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) RETURNING " + BookRows.COLUMNS;
+
+    // One statement text for any number of rows, unlike a VALUES list that grows with the batch
+    private static final String INSERT_ALL_SQL =
+            "INSERT INTO books (title, author, category, price, publication_year, quantity) "
+                    + "SELECT * FROM unnest(CAST(? AS varchar[]), CAST(? AS varchar[]), CAST(? AS varchar[]), "
+                    + "CAST(? AS numeric[]), CAST(? AS int[]), CAST(? AS int[])) "
+                    + "RETURNING " + BookRows.COLUMNS;
+
+    private static final String FIND_BY_ID_SQL = "SELECT " + BookRows.COLUMNS + " FROM books WHERE id = ?";
+
+    private static final String EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM books WHERE id = ?)";
+
+    private static final String FIND_ALL_BY_IDS_SQL =
+            "SELECT " + BookRows.COLUMNS + " FROM books WHERE id = ANY(CAST(? AS bigint[]))";
+
+    private static final String FIND_SLICE_SQL =
+            "SELECT " + BookRows.COLUMNS + " FROM books ORDER BY id LIMIT ? OFFSET ?";
+
+    private static final String STREAM_ALL_SQL = "SELECT " + BookRows.COLUMNS + " FROM books ORDER BY id";
+
+    // Planner statistics; -1 (or 0 before PostgreSQL 14) until the table was first vacuumed or analyzed
+    private static final String ESTIMATE_COUNT_SQL =
+            "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('books' AS regclass)";
+
+    private static final String RESERVE_STOCK_SQL =
+            "UPDATE books SET quantity = quantity - ?, version = version + 1 WHERE id = ? AND quantity >= ? "
+                    + "RETURNING " + BookRows.COLUMNS;
+
+    private static final String RELEASE_STOCK_SQL =
+            "UPDATE books SET quantity = quantity + ?, version = version + 1 WHERE id = ? RETURNING " + BookRows.COLUMNS;
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcBookRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts a new book, or writes an existing one like {@link #update}; a stale version fails the save.
+     */
+    @Override
+    public Book save(Book book) {
+        if (book.getId() != null) {
+            return update(book).orElseThrow(() -> new OptimisticLockingFailureException(
+                    "Book " + book.getId() + " was deleted or updated concurrently"));
+        }
+        return jdbcTemplate.queryForObject(INSERT_SQL, BookRows::map,
+                book.getTitle(), book.getAuthor(), book.getCategory(),
+                book.getPrice(), book.getPublicationYear(), book.getQuantity());
+    }
+
+    @Override
+    public List<Book> insertAll(List<Book> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+
+        // Each book is mapped from its own returned row, so no assumption is made about the order of the rows
+        return jdbcTemplate.query(INSERT_ALL_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("varchar", books.stream().map(Book::getTitle).toArray()));
+            ps.setArray(2, connection.createArrayOf("varchar", books.stream().map(Book::getAuthor).toArray()));
+            ps.setArray(3, connection.createArrayOf("varchar", books.stream().map(Book::getCategory).toArray()));
+            ps.setArray(4, connection.createArrayOf("numeric", books.stream().map(Book::getPrice).toArray()));
+            ps.setArray(5, connection.createArrayOf("integer", books.stream().map(Book::getPublicationYear).toArray()));
+            ps.setArray(6, connection.createArrayOf("integer", books.stream().map(Book::getQuantity).toArray()));
+        }, BookRows::map);
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        return jdbcTemplate.query(FIND_BY_ID_SQL, BookRows::map, id).stream().findFirst();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, id));
+    }
+
+    @Override
+    public List<Book> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_ALL_BY_IDS_SQL, BookRows::map, BookRows.toIdArray(ids));
+    }
+
+    @Override
+    public SliceResult<Book> findSlice(int page, int size) {
+        // One extra row tells us whether a next page exists without a COUNT(*)
+        List<Book> rows = jdbcTemplate.query(FIND_SLICE_SQL, BookRows::map, size + 1, (long) page * size);
+
+        boolean hasNext = rows.size() > size;
+        return new SliceResult<>(hasNext ? rows.subList(0, size) : rows, page, size, hasNext);
+    }
+
+    @Override
+    public CursorResult<Book> findAllAfter(BookKeyset after, int size, BookSort sort) {
+        String column = BookRows.sortColumn(sort.property());
+        String direction = sort.isDescending() ? "DESC" : "ASC";
+        boolean byId = sort.property() == BookSort.Property.ID;
+        List<Object> params = new ArrayList<>();
+
+        // Row-value comparison walks the (column, id) index in order; no OFFSET and no full sort
+        StringBuilder sql = new StringBuilder("SELECT ").append(BookRows.COLUMNS).append(" FROM books");
+        if (after != null) {
+            String comparison = sort.isDescending() ? " < " : " > ";
+            if (byId) {
+                sql.append(" WHERE id").append(comparison).append('?');
+            } else {
+                sql.append(" WHERE (").append(column).append(", id)").append(comparison).append("(?, ?)");
+                params.add(BookRows.sortValue(sort.property(), after.lastSortValue()));
+            }
+            params.add(after.lastId());
+        }
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction);
+        if (!byId) {
+            sql.append(", id ").append(direction);
+        }
+        sql.append(" LIMIT ?");
+        params.add(size + 1);
+
+        List<Book> rows = jdbcTemplate.query(sql.toString(), BookRows::map, params.toArray());
+
+        boolean hasNext = rows.size() > size;
+        return new CursorResult<>(hasNext ? rows.subList(0, size) : rows, size, hasNext);
+    }
+
+    @Override
+    public long estimateCount() {
+        Long estimate = jdbcTemplate.queryForObject(ESTIMATE_COUNT_SQL, Long.class);
+        if (estimate == null || estimate <= 0) {
+            Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM books", Long.class);
+            return count == null ? 0 : count;
+        }
+        return estimate;
+    }
+
+    /**
+     * Streams the whole table; the fetch size makes the driver read through a server-side cursor,
+     * which it only does inside a transaction.
+     */
+    @Override
+    @Transactional
+    public long forEachBook(Consumer<Book> action) {
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_ALL_SQL);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            action.accept(BookRows.map(rs, 0));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Writes the book with one UPDATE ... RETURNING; the version check and the increment happen in the same statement.
+     */
+    @Override
+    public Optional<Book> update(Book book) {
+        boolean versioned = book.getVersion() != null;
+        String sql = "UPDATE books SET title = ?, author = ?, category = ?, price = ?, publication_year = ?, "
+                + "quantity = ?, version = version + 1 WHERE id = ?"
+                + (versioned ? " AND version = ?" : "")
+                + " RETURNING " + BookRows.COLUMNS;
+
+        List<Book> rows = jdbcTemplate.query(sql, ps -> {
+            ps.setString(1, book.getTitle());
+            ps.setString(2, book.getAuthor());
+            ps.setString(3, book.getCategory());
+            ps.setBigDecimal(4, book.getPrice());
+            ps.setInt(5, book.getPublicationYear());
+            ps.setInt(6, book.getQuantity());
+            ps.setLong(7, book.getId());
+            if (versioned) {
+                ps.setLong(8, book.getVersion());
+            }
+        }, BookRows::map);
+
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Applies a price/quantity patch as one UPDATE ... RETURNING; absent fields keep their stored value.
+     */
+    @Override
+    public Optional<Book> partialUpdate(Long id, PartialUpdateBookCommand command, Long expectedVersion) {
+        String sql = "UPDATE books SET price = COALESCE(?, price), quantity = COALESCE(?, quantity), "
+                + "version = version + 1 WHERE id = ?"
+                + (expectedVersion != null ? " AND version = ?" : "")
+                + " RETURNING " + BookRows.COLUMNS;
+
+        List<Book> rows = jdbcTemplate.query(sql, ps -> {
+            ps.setBigDecimal(1, command.price().orElse(null));
+            if (command.quantity().isPresent()) {
+                ps.setInt(2, command.quantity().get());
+            } else {
+                ps.setNull(2, Types.INTEGER);
+            }
+            ps.setLong(3, id);
+            if (expectedVersion != null) {
+                ps.setLong(4, expectedVersion);
+            }
+        }, BookRows::map);
+
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * The stock check and the decrement are one statement, so the row lock is held only for the UPDATE itself
+     * and concurrent reservations can never take the quantity below zero.
+     */
+    @Override
+    public Optional<Book> reserveStock(Long id, int quantity) {
+        return jdbcTemplate.query(RESERVE_STOCK_SQL, BookRows::map, quantity, id, quantity).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Book> releaseStock(Long id, int quantity) {
+        return jdbcTemplate.query(RELEASE_STOCK_SQL, BookRows::map, quantity, id).stream().findFirst();
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return jdbcTemplate.update("DELETE FROM books WHERE id = ?", id) > 0;
+    }
+
+    @Override
+    public List<Long> deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                "DELETE FROM books WHERE id = ANY(CAST(? AS bigint[])) RETURNING id",
+                Long.class,
+                BookRows.toIdArray(ids)
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.port.out.BookQueryPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link BookQueryPort} on plain JDBC, the listing counterpart of {@link JdbcBookRepositoryAdapter}:
+ * rows are mapped straight into {@link BookView} by {@link BookRows}.
+ * <p>
+ * Only the filters that are set become conditions, in a fixed order, so each combination of filters
+ * and sort order always produces the same SQL text and reuses the driver's prepared statement.
+ */
+public class JdbcBookViewQueryAdapter implements BookQueryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcBookViewQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public PagedResult<BookView> findViews(BookFilter filter, int page, int size, BookSort sort) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        addCondition(conditions, params, "category = ?", filter.category());
+        addCondition(conditions, params, "author = ?", filter.author());
+        addCondition(conditions, params, "price >= ?", filter.minPrice());
+        addCondition(conditions, params, "price <= ?", filter.maxPrice());
+        addCondition(conditions, params, "publication_year >= ?", filter.minPublicationYear());
+        addCondition(conditions, params, "publication_year <= ?", filter.maxPublicationYear());
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+
+        String direction = sort.isDescending() ? "DESC" : "ASC";
+        StringBuilder sql = new StringBuilder("SELECT ").append(BookRows.COLUMNS).append(" FROM books").append(where)
+                .append(" ORDER BY ");
+        if (sort.property() != BookSort.Property.ID) {
+            sql.append(BookRows.sortColumn(sort.property())).append(' ').append(direction).append(", ");
+        }
+        sql.append("id ").append(direction).append(" LIMIT ? OFFSET ?");
+
+        List<Object> pageParams = new ArrayList<>(params);
+        pageParams.add(size);
+        pageParams.add((long) page * size);
+        List<BookView> content = jdbcTemplate.query(sql.toString(), BookRows::mapView, pageParams.toArray());
+
+        // A short, non-empty page (or a short first page) already tells the total, as in Spring Data's paging
+        long total = content.size() < size && (!content.isEmpty() || page == 0)
+                ? (long) page * size + content.size()
+                : countWhere(where, params);
+        int totalPages = (int) Math.ceil((double) total / size);
+
+        return new PagedResult<>(content, total, totalPages, page, size);
+    }
+
+    private long countWhere(String where, List<Object> params) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM books" + where, Long.class, params.toArray());
+        return count == null ? 0 : count;
+    }
+
+    private static void addCondition(List<String> conditions, List<Object> params, String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            params.add(value);
+        }
+    }
+}
@@ -1,7 +1,54 @@
 package com.studies.bookstore.adapter.out.persistence;
 
 import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface JpaBookRepository extends JpaRepository<JpaBookEntity, Long> {
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface JpaBookRepository extends JpaRepository<JpaBookEntity, Long>, JpaSpecificationExecutor<JpaBookEntity> {
+
+    Slice<JpaBookEntity> findAllBy(Pageable pageable);
+
+    // The fetch size makes the PostgreSQL driver read through a server-side cursor (inside a transaction)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM JpaBookEntity b ORDER BY b.id")
+    Stream<JpaBookEntity> streamAllOrderById();
+
+    // One statement and one cached plan for any number of ids, unlike an IN list that grows with the batch
+    @Query(value = "SELECT id, title, author, category, price, publication_year, quantity, version " +
+            "FROM books WHERE id = ANY(CAST(:ids AS bigint[]))",
+            nativeQuery = true)
+    List<JpaBookEntity> findAllByIdArray(@Param("ids") String idArrayLiteral);
+
+    // Planner statistics; -1 (or 0 before PostgreSQL 14) until the table was first vacuumed or analyzed
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('books' AS regclass)",
+            nativeQuery = true)
+    Long estimateRowCount();
+
+    // Both queries match through the GIN index on search_vector (see V4 migration)
+    @Query(value = "SELECT b.id, b.title, b.author, b.category, b.price, b.publication_year, b.quantity, b.version " +
+            "FROM books b, websearch_to_tsquery('simple', :query) q " +
+            "WHERE b.search_vector @@ q " +
+            "ORDER BY ts_rank(b.search_vector, q) DESC, b.id " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<JpaBookEntity> searchRanked(@Param("query") String query,
+                                     @Param("limit") int limit,
+                                     @Param("offset") long offset);
+
+    @Query(value = "SELECT count(*) FROM books WHERE search_vector @@ websearch_to_tsquery('simple', :query)",
+            nativeQuery = true)
+    long countSearchMatches(@Param("query") String query);
 }
@@ -2,6 +2,14 @@ package com.studies.bookstore.adapter.out.persistence;
 
 import com.studies.bookstore.adapter.out.persistence.entity.ShoppingCartEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface JpaShoppingCartRepository extends JpaRepository<ShoppingCartEntity, String> {
-}
\ No newline at end of file
+
+    // Cart and its lines in one statement; the lazy collection would otherwise cost a second query on first access
+    @Query("SELECT c FROM ShoppingCartEntity c LEFT JOIN FETCH c.items WHERE c.userId = :userId")
+    Optional<ShoppingCartEntity> findWithItemsByUserId(@Param("userId") String userId);
+}
@@ -0,0 +1,168 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.application.exception.InsufficientStockException;
+import com.studies.bookstore.application.exception.RequestNotFoundException;
+import com.studies.bookstore.application.model.PlacedOrder;
+import com.studies.bookstore.application.port.out.OrderRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import com.studies.bookstore.domain.model.CartItem;
+import com.studies.bookstore.domain.model.Order;
+import com.studies.bookstore.domain.model.OrderLine;
+import com.studies.bookstore.domain.model.ShoppingCart;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Places an order with a fixed number of statements whatever the cart size: a cart lock, one delete that
+ * hands back the cart lines, one stock decrement over all items, one order insert and one insert of all
+ * lines, in one transaction. Arrays are bound as parameters and expanded with unnest, so each statement
+ * has a constant shape.
+ */
+@Component
+public class OrderRepositoryAdapter implements OrderRepositoryPort {
+
+    // Rows are locked in id order first, so concurrent checkouts over the same books queue instead of deadlocking
+    private static final String TAKE_STOCK_SQL =
+            "WITH wanted AS (SELECT * FROM unnest(CAST(? AS bigint[]), CAST(? AS int[])) AS w(book_id, qty)), "
+                    + "locked AS (SELECT b.id AS locked_id FROM books b JOIN wanted ON wanted.book_id = b.id "
+                    + "ORDER BY b.id FOR UPDATE OF b) "
+                    + "UPDATE books SET quantity = quantity - wanted.qty, version = version + 1 "
+                    + "FROM wanted, locked "
+                    + "WHERE books.id = wanted.book_id AND books.id = locked.locked_id AND books.quantity >= wanted.qty "
+                    + "RETURNING " + BookRows.COLUMNS;
+
+    // A second checkout of the same cart waits here until the first commits, then finds no lines to claim
+    private static final String LOCK_CART_SQL = "SELECT user_id FROM shopping_cart WHERE user_id = ? FOR UPDATE";
+
+    // The order is built from the rows this statement removed, never from an earlier read of the cart
+    private static final String CLAIM_ITEMS_SQL =
+            "DELETE FROM cart_item WHERE user_id = ? RETURNING book_id, title, unit_price, quantity";
+
+    private static final String EXISTING_IDS_SQL = "SELECT id FROM books WHERE id = ANY(CAST(? AS bigint[]))";
+
+    private static final String INSERT_LINES_SQL =
+            "INSERT INTO order_line (order_id, book_id, title, unit_price, quantity) "
+                    + "SELECT ?, l.* FROM unnest(CAST(? AS bigint[]), CAST(? AS varchar[]), "
+                    + "CAST(? AS numeric[]), CAST(? AS int[])) AS l";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public Optional<PlacedOrder> placeOrder(String userId) {
+        if (jdbcTemplate.queryForList(LOCK_CART_SQL, String.class, userId).isEmpty()) {
+            return Optional.empty();
+        }
+        List<CartItem> claimed = jdbcTemplate.query(CLAIM_ITEMS_SQL, (rs, rowNum) -> new CartItem(
+                rs.getLong("book_id"),
+                rs.getString("title"),
+                rs.getBigDecimal("unit_price"),
+                rs.getInt("quantity")), userId);
+        if (claimed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Going through the aggregate folds any duplicate lines for one book into one
+        List<CartItem> sorted = new ArrayList<>(new ShoppingCart(userId, claimed).getItems());
+        sorted.sort(Comparator.comparing(CartItem::getBookId));
+
+        List<Book> updatedBooks = takeStock(sorted);
+
+        Map<Long, Book> booksById = new HashMap<>();
+        updatedBooks.forEach(book -> booksById.put(book.getId(), book));
+        List<OrderLine> lines = new ArrayList<>(sorted.size());
+        for (CartItem item : sorted) {
+            Book book = booksById.get(item.getBookId());
+            lines.add(new OrderLine(book.getId(), book.getTitle(), book.getPrice(), item.getQuantity()));
+        }
+
+        Order order = insertOrder(userId, lines);
+        insertLines(order.getId(), lines);
+
+        return Optional.of(new PlacedOrder(order, updatedBooks));
+    }
+
+    private List<Book> takeStock(List<CartItem> items) {
+        Long[] bookIds = items.stream().map(CartItem::getBookId).toArray(Long[]::new);
+        Integer[] quantities = items.stream().map(CartItem::getQuantity).toArray(Integer[]::new);
+
+        List<Book> updated = jdbcTemplate.query(TAKE_STOCK_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", bookIds));
+            ps.setArray(2, connection.createArrayOf("integer", quantities));
+        }, BookRows::map);
+
+        if (updated.size() < items.size()) {
+            // Throwing rolls back the decrements that did match
+            Set<Long> taken = updated.stream().map(Book::getId).collect(Collectors.toSet());
+            List<CartItem> untaken = items.stream()
+                    .filter(item -> !taken.contains(item.getBookId()))
+                    .toList();
+            throw unavailable(untaken);
+        }
+        return updated;
+    }
+
+    // A line matches no row either because its book ran short or because the book was deleted since it was added
+    private RuntimeException unavailable(List<CartItem> untaken) {
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(EXISTING_IDS_SQL, Long.class,
+                BookRows.toIdArray(untaken.stream().map(CartItem::getBookId).toList())));
+        for (CartItem item : untaken) {
+            if (!existing.contains(item.getBookId())) {
+                return new RequestNotFoundException(item.getBookId());
+            }
+        }
+        CartItem first = untaken.get(0);
+        return new InsufficientStockException(first.getBookId(), first.getQuantity());
+    }
+
+    private Order insertOrder(String userId, List<OrderLine> lines) {
+        BigDecimal total = lines.stream()
+                .map(OrderLine::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO orders (user_id, total) VALUES (?, ?) RETURNING id, created_at",
+                (rs, rowNum) -> new Order(
+                        rs.getLong("id"),
+                        userId,
+                        lines,
+                        rs.getTimestamp("created_at").toInstant()
+                ),
+                userId, total
+        );
+    }
+
+    private void insertLines(Long orderId, List<OrderLine> lines) {
+        Long[] bookIds = lines.stream().map(OrderLine::getBookId).toArray(Long[]::new);
+        String[] titles = lines.stream().map(OrderLine::getTitle).toArray(String[]::new);
+        BigDecimal[] unitPrices = lines.stream().map(OrderLine::getUnitPrice).toArray(BigDecimal[]::new);
+        Integer[] quantities = lines.stream().map(OrderLine::getQuantity).toArray(Integer[]::new);
+
+        jdbcTemplate.update(INSERT_LINES_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setLong(1, orderId);
+            ps.setArray(2, connection.createArrayOf("bigint", bookIds));
+            ps.setArray(3, connection.createArrayOf("varchar", titles));
+            ps.setArray(4, connection.createArrayOf("numeric", unitPrices));
+            ps.setArray(5, connection.createArrayOf("integer", quantities));
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
+import com.studies.bookstore.adapter.out.persistence.mapper.BookPersistenceMapper;
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.domain.model.Book;
+
+import java.util.List;
+
+/**
+ * Search backed by the generated {@code search_vector} column and its GIN index,
+ * so every node sees the same results without keeping an index of its own.
+ * The column is maintained by PostgreSQL, which makes {@link #index} and {@link #remove} no-ops.
+ */
+public class PostgresBookSearchAdapter implements BookSearchPort {
+
+    private final JpaBookRepository repository;
+
+    public PostgresBookSearchAdapter(JpaBookRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public PagedResult<Book> search(String query, int page, int size) {
+        long total = repository.countSearchMatches(query);
+        if (total == 0) {
+            return new PagedResult<>(List.of(), 0, 0, page, size);
+        }
+
+        List<JpaBookEntity> rows = repository.searchRanked(query, size, (long) page * size);
+        int totalPages = (int) Math.ceil((double) total / size);
+
+        return new PagedResult<>(
+                BookPersistenceMapper.toDomainList(rows),
+                total,
+                totalPages,
+                page,
+                size
+        );
+    }
+
+    @Override
+    public void index(Book book) {
+        // search_vector is a generated column
+    }
+
+    @Override
+    public void remove(Long id) {
+        // the row and its index entry are gone with the delete
+    }
+}
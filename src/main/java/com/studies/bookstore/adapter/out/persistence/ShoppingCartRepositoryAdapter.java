@@ -4,6 +4,7 @@ import com.studies.bookstore.adapter.out.persistence.entity.ShoppingCartEntity;
 import com.studies.bookstore.adapter.out.persistence.mapper.ShoppingCartPersistenceMapper;
 import com.studies.bookstore.application.port.out.ShoppingCartRepositoryPort;
 import com.studies.bookstore.domain.model.ShoppingCart;
+import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
@@ -21,14 +22,16 @@ public class ShoppingCartRepositoryAdapter implements ShoppingCartRepositoryPort
     }
 
     @Override
+    @Transactional
     public Optional<ShoppingCart> findByUserId(String userId) {
-        return repository.findById(userId)
+        return repository.findWithItemsByUserId(userId)
                 .map(ShoppingCartPersistenceMapper::toDomain);
     }
 
     @Override
+    @Transactional
     public ShoppingCart save(ShoppingCart cart) throws DataAccessException {
-        ShoppingCartEntity entity = repository.findById(cart.getUserId()).orElseGet(() -> {
+        ShoppingCartEntity entity = repository.findWithItemsByUserId(cart.getUserId()).orElseGet(() -> {
             ShoppingCartEntity e = new ShoppingCartEntity();
             e.setUserId(cart.getUserId());
             return e;
@@ -0,0 +1,205 @@
+package com.studies.bookstore.adapter.out.persistence.cache;
+
+import com.studies.bookstore.domain.model.Book;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, in-process cache of books keyed by id, split into independently locked stripes so that
+ * concurrent lookups of different books rarely wait on each other.
+ * Each stripe evicts in least-recently-used order once its share of {@code maxSize} is reached,
+ * and entries are lazily expired once they are older than {@code ttl}.
+ */
+public class BookCache {
+
+    private static final int MAX_STRIPES = 16;
+    // Small caches keep a single stripe, so eviction stays exact LRU where a stripe would hold only a few books
+    private static final int MIN_STRIPE_SIZE = 64;
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Stripe[] stripes;
+
+    // Sequence of invalidations; loads remember it so a write to their book since then can be detected
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BookCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    BookCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be greater than zero");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+
+        int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, maxSize / MIN_STRIPE_SIZE)));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+    }
+
+    public Optional<Book> get(Long id) {
+        Stripe stripe = stripeFor(id);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(id);
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            if (nanoClock.getAsLong() - entry.loadedAt() >= ttlNanos) {
+                stripe.entries.remove(id);
+                evictions.increment();
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(entry.book());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a token to be passed to {@link #putIfUnchanged(Long, Book, long)} by a caller about to load
+     * a book from the underlying store.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores the loaded book unless that book was invalidated since {@code expectedGeneration} was read,
+     * so a slow read can never re-insert a value that a concurrent write already replaced.
+     * Writes to other books do not affect the load.
+     */
+    public void putIfUnchanged(Long id, Book book, long expectedGeneration) {
+        Stripe stripe = stripeFor(id);
+        stripe.lock.lock();
+        try {
+            Long invalidatedAt = stripe.invalidations.get(id);
+            if (expectedGeneration < stripe.forgottenInvalidations
+                    || (invalidatedAt != null && invalidatedAt > expectedGeneration)) {
+                return;
+            }
+            stripe.entries.put(id, new Entry(book, nanoClock.getAsLong()));
+            puts.increment();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void invalidate(Long id) {
+        Stripe stripe = stripeFor(id);
+        stripe.lock.lock();
+        try {
+            stripe.invalidations.put(id, generation.incrementAndGet());
+            stripe.entries.remove(id);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.forgottenInvalidations = generation.incrementAndGet();
+                stripe.invalidations.clear();
+                stripe.entries.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getPutCount() {
+        return puts.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Stripe stripeFor(Long id) {
+        int hash = Long.hashCode(id);
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * One lock, one access-ordered map. Invalidations are remembered per id so that in-flight loads of that id
+     * can be refused; the oldest ones are dropped beyond the stripe's capacity, and {@code forgottenInvalidations}
+     * then refuses every load older than the newest one dropped.
+     */
+    private final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, Entry> entries;
+        private final Map<Long, Long> invalidations;
+        private long forgottenInvalidations;
+
+        private Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+            this.invalidations = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    if (size() > capacity) {
+                        forgottenInvalidations = Math.max(forgottenInvalidations, eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+
+    private record Entry(Book book, long loadedAt) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.studies.bookstore.adapter.out.persistence.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes the {@link BookCache} counters as the standard Micrometer cache meters
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size}) tagged {@code cache=books}.
+ */
+public class BookCacheMetrics extends CacheMeterBinder<BookCache> {
+
+    public BookCacheMetrics(BookCache cache) {
+        super(cache, "books", Tags.empty());
+    }
+
+    @Override
+    protected Long size() {
+        BookCache cache = getCache();
+        return cache == null ? null : (long) cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        BookCache cache = getCache();
+        return cache == null ? 0 : cache.getHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        BookCache cache = getCache();
+        return cache == null ? null : cache.getMissCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        BookCache cache = getCache();
+        return cache == null ? null : cache.getEvictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        BookCache cache = getCache();
+        return cache == null ? 0 : cache.getPutCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        // The standard cache meters cover every counter BookCache keeps
+    }
+}
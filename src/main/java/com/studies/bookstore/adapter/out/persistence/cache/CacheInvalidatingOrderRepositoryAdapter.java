@@ -0,0 +1,30 @@
+package com.studies.bookstore.adapter.out.persistence.cache;
+
+import com.studies.bookstore.application.model.PlacedOrder;
+import com.studies.bookstore.application.port.out.OrderRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+
+import java.util.Optional;
+
+/**
+ * Keeps the {@link BookCache} in step with checkouts: placing an order takes stock from books outside
+ * {@link CachingBookRepositoryAdapter}, so the books it changed are invalidated once the delegate returns,
+ * after its transaction has committed.
+ */
+public class CacheInvalidatingOrderRepositoryAdapter implements OrderRepositoryPort {
+
+    private final OrderRepositoryPort delegate;
+    private final BookCache cache;
+
+    public CacheInvalidatingOrderRepositoryAdapter(OrderRepositoryPort delegate, BookCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<PlacedOrder> placeOrder(String userId) {
+        Optional<PlacedOrder> placed = delegate.placeOrder(userId);
+        placed.ifPresent(order -> order.updatedBooks().stream().map(Book::getId).forEach(cache::invalidate));
+        return placed;
+    }
+}
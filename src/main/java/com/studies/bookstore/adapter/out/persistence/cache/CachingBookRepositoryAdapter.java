@@ -0,0 +1,173 @@
+package com.studies.bookstore.adapter.out.persistence.cache;
+
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.model.SliceResult;
+import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache in front of another {@link BookRepositoryPort}.
+ * Only lookups by id are cached; every write invalidates the affected id once the delegate returns.
+ * Cached books are copied on the way in and out because {@link Book} is mutable.
+ */
+public class CachingBookRepositoryAdapter implements BookRepositoryPort {
+
+    private final BookRepositoryPort delegate;
+    private final BookCache cache;
+
+    public CachingBookRepositoryAdapter(BookRepositoryPort delegate, BookCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Book save(Book book) {
+        Book saved = delegate.save(book);
+        cache.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Book> insertAll(List<Book> books) {
+        // New ids cannot be cached yet, so there is nothing to invalidate
+        return delegate.insertAll(books);
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        Optional<Book> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached.map(CachingBookRepositoryAdapter::copyOf);
+        }
+
+        long generation = cache.generation();
+        Optional<Book> loaded = delegate.findById(id);
+        loaded.ifPresent(book -> cache.putIfUnchanged(id, copyOf(book), generation));
+        return loaded;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<Book> findAllByIds(Collection<Long> ids) {
+        List<Book> found = new ArrayList<>(ids.size());
+        List<Long> uncached = new ArrayList<>();
+        for (Long id : ids) {
+            Optional<Book> cached = cache.get(id);
+            if (cached.isPresent()) {
+                found.add(copyOf(cached.get()));
+            } else {
+                uncached.add(id);
+            }
+        }
+        if (uncached.isEmpty()) {
+            return found;
+        }
+
+        long generation = cache.generation();
+        for (Book book : delegate.findAllByIds(uncached)) {
+            cache.putIfUnchanged(book.getId(), copyOf(book), generation);
+            found.add(book);
+        }
+        return found;
+    }
+
+    @Override
+    public SliceResult<Book> findSlice(int page, int size) {
+        return delegate.findSlice(page, size);
+    }
+
+    @Override
+    public CursorResult<Book> findAllAfter(BookKeyset after, int size, BookSort sort) {
+        return delegate.findAllAfter(after, size, sort);
+    }
+
+    @Override
+    public long estimateCount() {
+        return delegate.estimateCount();
+    }
+
+    @Override
+    public long forEachBook(Consumer<Book> action) {
+        return delegate.forEachBook(action);
+    }
+
+    @Override
+    public Optional<Book> update(Book updatedBook) {
+        try {
+            return delegate.update(updatedBook);
+        } finally {
+            cache.invalidate(updatedBook.getId());
+        }
+    }
+
+    @Override
+    public Optional<Book> partialUpdate(Long id, PartialUpdateBookCommand command, Long expectedVersion) {
+        try {
+            return delegate.partialUpdate(id, command, expectedVersion);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public Optional<Book> reserveStock(Long id, int quantity) {
+        try {
+            return delegate.reserveStock(id, quantity);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public Optional<Book> releaseStock(Long id, int quantity) {
+        try {
+            return delegate.releaseStock(id, quantity);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public List<Long> deleteAllByIds(Collection<Long> ids) {
+        try {
+            return delegate.deleteAllByIds(ids);
+        } finally {
+            ids.forEach(cache::invalidate);
+        }
+    }
+
+    private static Book copyOf(Book book) {
+        return new Book(
+                book.getId(),
+                book.getTitle(),
+                book.getAuthor(),
+                book.getCategory(),
+                book.getPrice(),
+                book.getPublicationYear(),
+                book.getQuantity(),
+                book.getVersion()
+        );
+    }
+}
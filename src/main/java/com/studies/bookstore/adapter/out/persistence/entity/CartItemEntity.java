@@ -11,8 +11,10 @@ import java.math.BigDecimal;
 @Setter
 @Table(name = "cart_item")
 public class CartItemEntity {
+    // Sequence ids handed out in blocks (see V9) let Hibernate batch inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_item_id_seq")
+    @SequenceGenerator(name = "cart_item_id_seq", sequenceName = "cart_item_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,4 +29,7 @@ public class JpaBookEntity {
     public int publicationYear;
     @Column(name = "quantity", nullable = false)
     public int quantity;
+    @Version
+    @Column(name = "version", nullable = false)
+    public Long version;
 }
@@ -17,6 +17,8 @@ public class ShoppingCartEntity {
     @Column(name = "user_id", nullable = false, unique = true)
     private String userId;
 
+    // Lines are updated in place, so physical row order drifts; id order is the order items were added
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OrderBy("id")
     private List<CartItemEntity> items = new ArrayList<>();
 }
\ No newline at end of file
@@ -19,7 +19,8 @@ public class BookPersistenceMapper {
                 jpaBookEntity.category,
                 jpaBookEntity.price,
                 jpaBookEntity.publicationYear,
-                jpaBookEntity.quantity
+                jpaBookEntity.quantity,
+                jpaBookEntity.version
         );
     }
 
@@ -31,7 +32,8 @@ public class BookPersistenceMapper {
                 book.getCategory(),
                 book.getPrice(),
                 book.getPublicationYear(),
-                book.getQuantity()
+                book.getQuantity(),
+                book.getVersion()
         );
     }
 
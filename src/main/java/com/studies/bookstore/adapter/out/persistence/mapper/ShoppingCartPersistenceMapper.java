@@ -5,7 +5,12 @@ import com.studies.bookstore.adapter.out.persistence.entity.ShoppingCartEntity;
 import com.studies.bookstore.domain.model.CartItem;
 import com.studies.bookstore.domain.model.ShoppingCart;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class ShoppingCartPersistenceMapper {
     private ShoppingCartPersistenceMapper() {
@@ -25,16 +30,37 @@ public class ShoppingCartPersistenceMapper {
         return new ShoppingCart(entity.getUserId(), items);
     }
 
+    /**
+     * Brings the loaded entity in line with the cart by changing only what differs: lines for books no longer
+     * in the cart are removed (DELETE through orphan removal), lines whose quantity changed are updated in place
+     * (UPDATE through dirty checking) and new books are appended (INSERT). Untouched lines cause no statements.
+     */
     public static void updateEntityFromDomain(ShoppingCart cart, ShoppingCartEntity entity) {
-        entity.getItems().clear();
-        cart.getItems().forEach(domainItem -> {
-            CartItemEntity itemEntity = new CartItemEntity();
-            itemEntity.setCart(entity);
-            itemEntity.setBookId(domainItem.getBookId());
-            itemEntity.setTitle(domainItem.getTitle());
-            itemEntity.setUnitPrice(domainItem.getUnitPrice());
-            itemEntity.setQuantity(domainItem.getQuantity());
-            entity.getItems().add(itemEntity);
-        });
+        Map<Long, CartItem> wanted = new HashMap<>();
+        cart.getItems().forEach(item -> wanted.put(item.getBookId(), item));
+
+        Set<Long> kept = new HashSet<>();
+        Iterator<CartItemEntity> existing = entity.getItems().iterator();
+        while (existing.hasNext()) {
+            CartItemEntity itemEntity = existing.next();
+            CartItem domainItem = wanted.get(itemEntity.getBookId());
+            if (domainItem == null || !kept.add(itemEntity.getBookId())) {
+                existing.remove();
+            } else if (!domainItem.getQuantity().equals(itemEntity.getQuantity())) {
+                itemEntity.setQuantity(domainItem.getQuantity());
+            }
+        }
+
+        cart.getItems().stream()
+                .filter(domainItem -> !kept.contains(domainItem.getBookId()))
+                .forEach(domainItem -> {
+                    CartItemEntity itemEntity = new CartItemEntity();
+                    itemEntity.setCart(entity);
+                    itemEntity.setBookId(domainItem.getBookId());
+                    itemEntity.setTitle(domainItem.getTitle());
+                    itemEntity.setUnitPrice(domainItem.getUnitPrice());
+                    itemEntity.setQuantity(domainItem.getQuantity());
+                    entity.getItems().add(itemEntity);
+                });
     }
 }
\ No newline at end of file
@@ -0,0 +1,354 @@
+package com.studies.bookstore.adapter.out.search;
+
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.domain.model.Book;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over book title, author and category.
+ * <p>
+ * Every indexed book gets a dense int ordinal; each term maps to a posting list of ordinals (kept sorted)
+ * and the term frequency of that term in the book, both stored in primitive arrays.
+ * Queries match books containing all query terms and rank them by summed term frequency.
+ * The index only reflects writes that went through this node.
+ */
+public class InMemoryBookSearchIndex implements BookSearchPort {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+
+    private Book[] booksByOrdinal = new Book[INITIAL_CAPACITY];
+    private String[][] termsByOrdinal = new String[INITIAL_CAPACITY][];
+    private int nextOrdinal;
+    private int[] freeOrdinals = new int[16];
+    private int freeOrdinalCount;
+    // Ids removed while a bulk load runs; null outside one
+    private Set<Long> removedDuringBulkLoad;
+
+    @Override
+    public PagedResult<Book> search(String query, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return new PagedResult<>(List.of(), 0, 0, page, size);
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    return new PagedResult<>(List.of(), 0, 0, page, size);
+                }
+                lists[i++] = postings;
+            }
+            // Drive the intersection from the rarest term
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            // Only the best (page + 1) * size matches can land on the requested page: keep them in a bounded
+            // heap whose root is the worst one kept, and just count the rest
+            int limit = (int) Math.min((long) (page + 1) * size, lists[0].size);
+            long[] top = new long[limit];
+            int topCount = 0;
+            int matchCount = 0;
+
+            for (int d = 0; d < lists[0].size; d++) {
+                int ordinal = lists[0].ordinals[d];
+                int score = lists[0].frequencies[d];
+                boolean matchesAll = true;
+                for (int l = 1; l < lists.length && matchesAll; l++) {
+                    int idx = Arrays.binarySearch(lists[l].ordinals, 0, lists[l].size, ordinal);
+                    if (idx < 0) {
+                        matchesAll = false;
+                    } else {
+                        score += lists[l].frequencies[idx];
+                    }
+                }
+                if (!matchesAll) {
+                    continue;
+                }
+                matchCount++;
+                // Higher score first, then ordinal order; the low 32 bits hold the ordinal
+                long rankKey = ((long) (Integer.MAX_VALUE - score) << 32) | ordinal;
+                if (topCount < limit) {
+                    top[topCount] = rankKey;
+                    siftUp(top, topCount++);
+                } else if (limit > 0 && rankKey < top[0]) {
+                    top[0] = rankKey;
+                    siftDown(top, topCount);
+                }
+            }
+
+            Arrays.sort(top, 0, topCount);
+
+            int from = (int) Math.min((long) page * size, topCount);
+            List<Book> content = new ArrayList<>(topCount - from);
+            for (int r = from; r < topCount; r++) {
+                content.add(booksByOrdinal[(int) top[r]]);
+            }
+
+            int totalPages = (int) Math.ceil((double) matchCount / size);
+            return new PagedResult<>(content, matchCount, totalPages, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Book book) {
+        Map<String, Integer> frequencies = termFrequencies(book);
+
+        lock.writeLock().lock();
+        try {
+            put(book, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts recording removals, so that {@link #indexIfAbsent} does not bring back a book deleted
+     * after a bulk load read it. Call {@link #finishBulkLoad} when the load is over.
+     */
+    public void startBulkLoad() {
+        lock.writeLock().lock();
+        try {
+            removedDuringBulkLoad = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishBulkLoad() {
+        lock.writeLock().lock();
+        try {
+            removedDuringBulkLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the book only if it is not indexed yet and was not removed since the bulk load started,
+     * so a bulk load never overwrites a newer write or re-adds a deleted book. The check and the insert
+     * happen under one write lock.
+     */
+    public void indexIfAbsent(Book book) {
+        Map<String, Integer> frequencies = termFrequencies(book);
+
+        lock.writeLock().lock();
+        try {
+            if (ordinalsById.containsKey(book.getId())
+                    || (removedDuringBulkLoad != null && removedDuringBulkLoad.contains(book.getId()))) {
+                return;
+            }
+            put(book, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (removedDuringBulkLoad != null) {
+                removedDuringBulkLoad.add(id);
+            }
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            removePostings(ordinal);
+            booksByOrdinal[ordinal] = null;
+            termsByOrdinal[ordinal] = null;
+            releaseOrdinal(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < lower.length(); i++) {
+            if (Character.isLetterOrDigit(lower.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(lower.substring(start));
+        }
+        return tokens;
+    }
+
+    private static Map<String, Integer> termFrequencies(Book book) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String field : new String[]{book.getTitle(), book.getAuthor(), book.getCategory()}) {
+            for (String token : tokenize(field)) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * Adds or replaces the book's postings; the caller holds the write lock.
+     */
+    private void put(Book book, Map<String, Integer> frequencies) {
+        Integer existing = ordinalsById.get(book.getId());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            removePostings(ordinal);
+        } else {
+            ordinal = allocateOrdinal();
+            ordinalsById.put(book.getId(), ordinal);
+        }
+
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postingsByTerm.computeIfAbsent(entry.getKey(), term -> new Postings())
+                    .add(ordinal, entry.getValue());
+        }
+        booksByOrdinal[ordinal] = book;
+        termsByOrdinal[ordinal] = frequencies.keySet().toArray(String[]::new);
+    }
+
+    private void removePostings(int ordinal) {
+        for (String term : termsByOrdinal[ordinal]) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(ordinal) && postings.size == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Restores the max-heap order of {@code heap} after a key was appended at {@code index}.
+     */
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    /**
+     * Restores the max-heap order of the first {@code size} keys of {@code heap} after its root was replaced.
+     */
+    private static void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int index = 0;
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (key >= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    private int allocateOrdinal() {
+        if (freeOrdinalCount > 0) {
+            return freeOrdinals[--freeOrdinalCount];
+        }
+        if (nextOrdinal == booksByOrdinal.length) {
+            booksByOrdinal = Arrays.copyOf(booksByOrdinal, booksByOrdinal.length * 2);
+            termsByOrdinal = Arrays.copyOf(termsByOrdinal, termsByOrdinal.length * 2);
+        }
+        return nextOrdinal++;
+    }
+
+    private void releaseOrdinal(int ordinal) {
+        if (freeOrdinalCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeOrdinals.length * 2);
+        }
+        freeOrdinals[freeOrdinalCount++] = ordinal;
+    }
+
+    /**
+     * Posting list for one term: book ordinals in ascending order with the matching term frequencies.
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            int idx = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (idx >= 0) {
+                frequencies[idx] = frequency;
+                return;
+            }
+
+            int insertAt = -idx - 1;
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(ordinals, insertAt, ordinals, insertAt + 1, size - insertAt);
+            System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+            ordinals[insertAt] = ordinal;
+            frequencies[insertAt] = frequency;
+            size++;
+        }
+
+        boolean remove(int ordinal) {
+            int idx = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (idx < 0) {
+                return false;
+            }
+            System.arraycopy(ordinals, idx + 1, ordinals, idx, size - idx - 1);
+            System.arraycopy(frequencies, idx + 1, frequencies, idx, size - idx - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.studies.bookstore.application.exception;
+
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(Long id, int requested) {
+        super("Insufficient stock for request with id " + id + ": " + requested + " requested");
+    }
+}
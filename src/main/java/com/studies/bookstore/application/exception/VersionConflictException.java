@@ -0,0 +1,7 @@
+package com.studies.bookstore.application.exception;
+
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(Long id) {
+        super("Request with id " + id + " was modified by another request");
+    }
+}
@@ -0,0 +1,18 @@
+package com.studies.bookstore.application.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BookBatchDeleteResult {
+
+    private final List<Long> deletedIds;
+    private final List<Long> missingIds;
+
+    public BookBatchDeleteResult(List<Long> deletedIds, List<Long> missingIds) {
+        this.deletedIds = deletedIds;
+        this.missingIds = missingIds;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.studies.bookstore.application.model;
+
+import com.studies.bookstore.domain.model.Book;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BookBatchResult {
+
+    private final List<Book> books;
+    private final List<Long> missingIds;
+
+    public BookBatchResult(List<Book> books, List<Long> missingIds) {
+        this.books = books;
+        this.missingIds = missingIds;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.studies.bookstore.application.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Optional criteria for listing books; {@code null} components are not filtered on.
+ * Category and author match exactly so the lookups stay index-backed.
+ */
+public record BookFilter(
+        String category,
+        String author,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Integer minPublicationYear,
+        Integer maxPublicationYear
+) {
+
+    public boolean isEmpty() {
+        return category == null && author == null
+                && minPrice == null && maxPrice == null
+                && minPublicationYear == null && maxPublicationYear == null;
+    }
+}
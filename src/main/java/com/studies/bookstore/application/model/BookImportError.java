@@ -0,0 +1,4 @@
+package com.studies.bookstore.application.model;
+
+public record BookImportError(long lineNumber, String message) {
+}
@@ -0,0 +1,22 @@
+package com.studies.bookstore.application.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BookImportResult {
+
+    private final long importedCount;
+    private final long failedCount;
+    private final List<BookImportError> errors;
+    private final boolean errorsTruncated;
+
+    public BookImportResult(long importedCount, long failedCount, List<BookImportError> errors, boolean errorsTruncated) {
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+}
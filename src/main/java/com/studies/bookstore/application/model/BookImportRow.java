@@ -0,0 +1,27 @@
+package com.studies.bookstore.application.model;
+
+/**
+ * One row of an import file with its fields still in text form, so that
+ * type and domain validation happen in one place and are reported per line.
+ * {@code error} is set instead of the fields when the line could not be parsed at all.
+ */
+public record BookImportRow(
+        long lineNumber,
+        String title,
+        String author,
+        String category,
+        String price,
+        String publicationYear,
+        String quantity,
+        String error
+) {
+
+    public static BookImportRow of(long lineNumber, String title, String author, String category,
+                                   String price, String publicationYear, String quantity) {
+        return new BookImportRow(lineNumber, title, author, category, price, publicationYear, quantity, null);
+    }
+
+    public static BookImportRow malformed(long lineNumber, String error) {
+        return new BookImportRow(lineNumber, null, null, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,8 @@
+package com.studies.bookstore.application.model;
+
+/**
+ * Position of the last book of a page under a {@link BookSort}: its sort key and id.
+ * The sort key is kept in its string form and is {@code null} when sorting by id.
+ */
+public record BookKeyset(String lastSortValue, Long lastId) {
+}
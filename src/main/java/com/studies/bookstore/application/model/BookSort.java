@@ -0,0 +1,26 @@
+package com.studies.bookstore.application.model;
+
+/**
+ * Sort order for book listings. Rows are always tie-broken by id in the same direction,
+ * so every order is total and can be resumed from a {@link BookKeyset}.
+ */
+public record BookSort(Property property, Direction direction) {
+
+    public static final BookSort DEFAULT = new BookSort(Property.ID, Direction.ASC);
+
+    public enum Property {
+        ID,
+        PRICE,
+        PUBLICATION_YEAR,
+        TITLE
+    }
+
+    public enum Direction {
+        ASC,
+        DESC
+    }
+
+    public boolean isDescending() {
+        return direction == Direction.DESC;
+    }
+}
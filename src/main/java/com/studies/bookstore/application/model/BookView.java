@@ -0,0 +1,17 @@
+package com.studies.bookstore.application.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only snapshot of a book row for listings. It is built straight from the selected columns,
+ * so it skips the {@code Book} constructor checks, which already held when the row was written.
+ */
+public record BookView(Long id,
+                       String title,
+                       String author,
+                       String category,
+                       BigDecimal price,
+                       int publicationYear,
+                       int quantity,
+                       Long version) {
+}
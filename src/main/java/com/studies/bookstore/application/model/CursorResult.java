@@ -0,0 +1,20 @@
+package com.studies.bookstore.application.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorResult<T> {
+
+    private final List<T> content;
+    private final int pageSize;
+    private final boolean hasNext;
+
+    public CursorResult(List<T> content, int pageSize, boolean hasNext) {
+        this.content = content;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+    }
+
+}
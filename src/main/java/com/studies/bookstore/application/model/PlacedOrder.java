@@ -0,0 +1,12 @@
+package com.studies.bookstore.application.model;
+
+import com.studies.bookstore.domain.model.Book;
+import com.studies.bookstore.domain.model.Order;
+
+import java.util.List;
+
+/**
+ * An order together with the books whose stock it took, as stored after the decrement.
+ */
+public record PlacedOrder(Order order, List<Book> updatedBooks) {
+}
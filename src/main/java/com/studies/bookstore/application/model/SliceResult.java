@@ -0,0 +1,32 @@
+package com.studies.bookstore.application.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SliceResult<T> {
+
+    private final List<T> content;
+    private final int pageNumber;
+    private final int pageSize;
+    private final boolean hasNext;
+    private final Long approximateTotalElements;
+
+    public SliceResult(List<T> content, int pageNumber, int pageSize, boolean hasNext) {
+        this(content, pageNumber, pageSize, hasNext, null);
+    }
+
+    public SliceResult(List<T> content, int pageNumber, int pageSize, boolean hasNext, Long approximateTotalElements) {
+        this.content = content;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+        this.approximateTotalElements = approximateTotalElements;
+    }
+
+    public SliceResult<T> withApproximateTotalElements(Long approximateTotalElements) {
+        return new SliceResult<>(content, pageNumber, pageSize, hasNext, approximateTotalElements);
+    }
+
+}
@@ -7,4 +7,8 @@ public record PartialUpdateBookCommand(
         Optional<BigDecimal> price,
         Optional<Integer> quantity
 ) {
+
+    public boolean isEmpty() {
+        return price.isEmpty() && quantity.isEmpty();
+    }
 }
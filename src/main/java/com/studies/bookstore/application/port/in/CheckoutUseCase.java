@@ -0,0 +1,8 @@
+package com.studies.bookstore.application.port.in;
+
+import com.studies.bookstore.domain.model.Order;
+
+public interface CheckoutUseCase {
+
+    Order checkout(String userId);
+}
@@ -1,6 +1,12 @@
 package com.studies.bookstore.application.port.in;
 
+import com.studies.bookstore.application.model.BookBatchDeleteResult;
+
+import java.util.List;
+
 public interface DeleteBookUseCase {
 
     void deleteBook(Long id);
+
+    BookBatchDeleteResult deleteBooksByIds(List<Long> ids);
 }
@@ -0,0 +1,15 @@
+package com.studies.bookstore.application.port.in;
+
+import com.studies.bookstore.domain.model.Book;
+
+import java.util.function.Consumer;
+
+public interface ExportBooksUseCase {
+
+    /**
+     * Passes every book, in id order, to {@code sink} while it is read from storage.
+     *
+     * @return the number of exported books
+     */
+    long exportBooks(Consumer<Book> sink);
+}
@@ -1,12 +1,27 @@
 package com.studies.bookstore.application.port.in;
 
+import com.studies.bookstore.application.model.BookBatchResult;
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.CursorResult;
 import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.model.SliceResult;
 import com.studies.bookstore.domain.model.Book;
 
+import java.util.List;
+
 public interface GetBookUseCase {
 
     Book getBook(Long id);
 
-    PagedResult<Book> getAllBooks(int page, int size);
+    BookBatchResult getBooksByIds(List<Long> ids);
+
+    PagedResult<BookView> getBookViews(BookFilter filter, int page, int size, BookSort sort);
+
+    SliceResult<Book> getBooksSlice(int page, int size);
+
+    CursorResult<Book> getBooksAfter(BookKeyset after, int size, BookSort sort);
 
 }
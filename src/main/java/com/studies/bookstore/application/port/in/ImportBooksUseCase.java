@@ -0,0 +1,11 @@
+package com.studies.bookstore.application.port.in;
+
+import com.studies.bookstore.application.model.BookImportResult;
+import com.studies.bookstore.application.model.BookImportRow;
+
+import java.util.Iterator;
+
+public interface ImportBooksUseCase {
+
+    BookImportResult importBooks(Iterator<BookImportRow> rows);
+}
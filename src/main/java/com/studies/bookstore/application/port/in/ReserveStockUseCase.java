@@ -0,0 +1,16 @@
+package com.studies.bookstore.application.port.in;
+
+import com.studies.bookstore.domain.model.Book;
+
+public interface ReserveStockUseCase {
+
+    /**
+     * Takes {@code quantity} units out of stock, or fails without changing anything if fewer are available.
+     */
+    Book reserveStock(Long bookId, int quantity);
+
+    /**
+     * Puts {@code quantity} previously reserved units back into stock.
+     */
+    Book releaseStock(Long bookId, int quantity);
+}
@@ -0,0 +1,9 @@
+package com.studies.bookstore.application.port.in;
+
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.domain.model.Book;
+
+public interface SearchBooksUseCase {
+
+    PagedResult<Book> searchBooks(String query, int page, int size);
+}
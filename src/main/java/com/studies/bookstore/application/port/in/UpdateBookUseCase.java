@@ -6,8 +6,11 @@ import com.studies.bookstore.application.port.command.UpdateBookCommand;
 
 public interface UpdateBookUseCase {
 
-    Book updateBook(Long id, UpdateBookCommand updateBookCommand);
+    /**
+     * @param expectedVersion version the client last read, or {@code null} to update unconditionally
+     */
+    Book updateBook(Long id, UpdateBookCommand updateBookCommand, Long expectedVersion);
 
-    Book partialUpdateBook(Long id, PartialUpdateBookCommand updateBookCommand);
+    Book partialUpdateBook(Long id, PartialUpdateBookCommand updateBookCommand, Long expectedVersion);
 
 }
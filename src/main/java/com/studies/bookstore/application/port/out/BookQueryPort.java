@@ -0,0 +1,11 @@
+package com.studies.bookstore.application.port.out;
+
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.PagedResult;
+
+public interface BookQueryPort {
+
+    PagedResult<BookView> findViews(BookFilter filter, int page, int size, BookSort sort);
+}
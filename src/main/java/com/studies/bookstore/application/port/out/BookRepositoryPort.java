@@ -1,18 +1,76 @@
 package com.studies.bookstore.application.port.out;
 
-import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.model.SliceResult;
+import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
 import com.studies.bookstore.domain.model.Book;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookRepositoryPort {
     Book save(Book book);
 
+    /**
+     * @return the stored books with their generated ids, in no particular order
+     */
+    List<Book> insertAll(List<Book> books);
+
     Optional<Book> findById(Long id);
 
-    PagedResult<Book> findAll(int page, int size);
+    boolean existsById(Long id);
+
+    List<Book> findAllByIds(Collection<Long> ids);
+
+    SliceResult<Book> findSlice(int page, int size);
+
+    CursorResult<Book> findAllAfter(BookKeyset after, int size, BookSort sort);
+
+    long estimateCount();
+
+    long forEachBook(Consumer<Book> action);
+
+    /**
+     * Writes every field and increments the version. A book carrying a version is only written while
+     * the stored row still has that version.
+     *
+     * @return the stored book, or empty when no row matched the id (and version)
+     */
+    Optional<Book> update(Book updatedBook);
+
+    /**
+     * Writes only the fields present in the command and increments the version, without loading the book.
+     *
+     * @param expectedVersion version the stored row must still have, or {@code null} to write unconditionally
+     * @return the stored book, or empty when no row matched the id (and version)
+     */
+    Optional<Book> partialUpdate(Long id, PartialUpdateBookCommand command, Long expectedVersion);
+
+    /**
+     * Atomically decrements the quantity if at least {@code quantity} units are in stock.
+     *
+     * @return the stored book, or empty when the book is missing or has too little stock
+     */
+    Optional<Book> reserveStock(Long id, int quantity);
+
+    /**
+     * Atomically increments the quantity.
+     *
+     * @return the stored book, or empty when the book is missing
+     */
+    Optional<Book> releaseStock(Long id, int quantity);
 
-    Book update(Book updatedBook);
+    /**
+     * @return {@code false} when no book had the id
+     */
+    boolean deleteById(Long id);
 
-    void deleteById(Long id);
+    /**
+     * @return the ids that were actually deleted, in no particular order
+     */
+    List<Long> deleteAllByIds(Collection<Long> ids);
 }
\ No newline at end of file
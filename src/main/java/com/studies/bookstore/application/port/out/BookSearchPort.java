@@ -0,0 +1,13 @@
+package com.studies.bookstore.application.port.out;
+
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.domain.model.Book;
+
+public interface BookSearchPort {
+
+    PagedResult<Book> search(String query, int page, int size);
+
+    void index(Book book);
+
+    void remove(Long id);
+}
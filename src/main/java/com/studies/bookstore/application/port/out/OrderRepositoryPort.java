@@ -0,0 +1,24 @@
+package com.studies.bookstore.application.port.out;
+
+import com.studies.bookstore.application.model.PlacedOrder;
+
+import java.util.Optional;
+
+public interface OrderRepositoryPort {
+
+    /**
+     * Locks the user's cart, takes its lines out of it, takes stock for every line and records the order,
+     * all or nothing. The lines ordered are exactly the ones removed from the cart, so concurrent checkouts
+     * of the same cart cannot order it twice and a line added meanwhile is either ordered or left in the cart.
+     * Lines are priced at the current catalog price.
+     *
+     * @return the placed order, or empty if the cart has no lines (nothing is written)
+     * @throws com.studies.bookstore.application.exception.RequestNotFoundException   if a line's book was deleted
+     *                                                                                 since it was added to the cart;
+     *                                                                                 nothing is written
+     * @throws com.studies.bookstore.application.exception.InsufficientStockException if any item cannot be
+     *                                                                                 fulfilled; nothing is written
+     */
+    Optional<PlacedOrder> placeOrder(String userId);
+
+}
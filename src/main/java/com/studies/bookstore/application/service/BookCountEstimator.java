@@ -0,0 +1,39 @@
+package com.studies.bookstore.application.service;
+
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Keeps an approximate number of books in memory so listings can report a total
+ * without running COUNT(*) on every request. The value is only as fresh as the last {@link #refresh()}.
+ */
+public class BookCountEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookCountEstimator.class);
+
+    private final BookRepositoryPort repository;
+
+    private volatile Long estimate;
+
+    public BookCountEstimator(BookRepositoryPort repository) {
+        this.repository = repository;
+    }
+
+    public void refresh() {
+        try {
+            estimate = repository.estimateCount();
+            logger.debug("Refreshed approximate book count: {}", estimate);
+        } catch (DataAccessException ex) {
+            logger.warn("Could not refresh approximate book count, keeping previous value {}: {}", estimate, ex.getMessage());
+        }
+    }
+
+    /**
+     * @return the last known approximate count, or {@code null} if it was never refreshed successfully
+     */
+    public Long getEstimate() {
+        return estimate;
+    }
+}
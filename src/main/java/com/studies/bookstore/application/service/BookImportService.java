@@ -0,0 +1,187 @@
+package com.studies.bookstore.application.service;
+
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.BookImportError;
+import com.studies.bookstore.application.model.BookImportResult;
+import com.studies.bookstore.application.model.BookImportRow;
+import com.studies.bookstore.application.port.in.ImportBooksUseCase;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.domain.exception.DomainException;
+import com.studies.bookstore.domain.model.Book;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Imports books row by row from a stream, validating each through the {@link Book} domain rules
+ * and the column limits of the {@code books} table, and inserting valid rows in chunks.
+ * Only the current chunk is held in memory. Each chunk is committed on its own, so rows before a failing
+ * chunk stay imported; a chunk the database rejects for one of its rows is retried in halves,
+ * so only the offending lines are reported.
+ */
+public class BookImportService implements ImportBooksUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookImportService.class);
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    // A chunk is one multi-row INSERT with 6 parameters per row; PostgreSQL binds at most 65535 per statement
+    static final int MAX_CHUNK_SIZE = 65_535 / 6;
+
+    // Limits of VARCHAR(255) and NUMERIC(19, 2) in V1__create_book_table.sql
+    static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_PRICE_INTEGER_DIGITS = 17;
+
+    private final BookRepositoryPort repository;
+    private final BookSearchPort searchIndex;
+    private final int chunkSize;
+
+    public BookImportService(BookRepositoryPort repository, BookSearchPort searchIndex, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Import chunk size must be greater than zero");
+        }
+        if (chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Import chunk size must not exceed " + MAX_CHUNK_SIZE);
+        }
+        this.repository = repository;
+        this.searchIndex = searchIndex;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BookImportResult importBooks(Iterator<BookImportRow> rows) {
+        ImportProgress progress = new ImportProgress();
+        List<Book> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            BookImportRow row = rows.next();
+            try {
+                chunk.add(toBook(row));
+                chunkLines.add(row.lineNumber());
+            } catch (InvalidRequestException | DomainException ex) {
+                progress.fail(row.lineNumber(), ex.getMessage());
+            }
+
+            if (chunk.size() == chunkSize) {
+                flush(chunk, chunkLines, progress);
+            }
+        }
+        flush(chunk, chunkLines, progress);
+
+        logger.info("Book import finished: imported={}, failed={}", progress.imported, progress.failed);
+        return new BookImportResult(progress.imported, progress.failed, progress.errors,
+                progress.failed > progress.errors.size());
+    }
+
+    private void flush(List<Book> chunk, List<Long> chunkLines, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        insert(chunk, chunkLines, progress);
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * Inserts the books in one statement. When a row violates a constraint the whole statement fails,
+     * so the books are split in half and each half retried until the rejected rows stand alone;
+     * a bad row costs a logarithmic number of extra statements. Other database errors fail all lines.
+     */
+    private void insert(List<Book> books, List<Long> lines, ImportProgress progress) {
+        try {
+            List<Book> inserted = repository.insertAll(books);
+            inserted.forEach(searchIndex::index);
+            progress.imported += inserted.size();
+        } catch (DataIntegrityViolationException ex) {
+            if (books.size() == 1) {
+                logger.warn("Line {} was rejected by the database: {}",
+                        lines.get(0), ex.getMostSpecificCause().getMessage());
+                progress.fail(lines.get(0), "Database error: " + ex.getMostSpecificCause().getMessage());
+                return;
+            }
+            int half = books.size() / 2;
+            insert(books.subList(0, half), lines.subList(0, half), progress);
+            insert(books.subList(half, books.size()), lines.subList(half, lines.size()), progress);
+        } catch (DataAccessException ex) {
+            logger.error("Error while importing lines {}-{}: {}",
+                    lines.get(0), lines.get(lines.size() - 1), ex.getMessage(), ex);
+            for (Long line : lines) {
+                progress.fail(line, "Database error: " + ex.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private static Book toBook(BookImportRow row) {
+        if (row.error() != null) {
+            throw new InvalidRequestException(row.error());
+        }
+        Book book = new Book(
+                null,
+                required(row.title(), "title"),
+                required(row.author(), "author"),
+                required(row.category(), "category"),
+                parseDecimal(required(row.price(), "price"), "price"),
+                parseInteger(required(row.publicationYear(), "publicationYear"), "publicationYear"),
+                parseInteger(required(row.quantity(), "quantity"), "quantity")
+        );
+        requireFits(book.getTitle(), "title");
+        requireFits(book.getAuthor(), "author");
+        requireFits(book.getCategory(), "category");
+        if (book.getPrice().precision() - book.getPrice().scale() > MAX_PRICE_INTEGER_DIGITS) {
+            throw new InvalidRequestException("price must have at most " + MAX_PRICE_INTEGER_DIGITS + " integer digits");
+        }
+        return book;
+    }
+
+    private static void requireFits(String value, String field) {
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw new InvalidRequestException(field + " must be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+    }
+
+    private static String required(String value, String field) {
+        if (value == null) {
+            throw new InvalidRequestException(field + " is missing");
+        }
+        return value;
+    }
+
+    private static BigDecimal parseDecimal(String value, String field) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException(field + " is not a number: " + value);
+        }
+    }
+
+    private static Integer parseInteger(String value, String field) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException(field + " is not an integer: " + value);
+        }
+    }
+
+    private static final class ImportProgress {
+
+        private final List<BookImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        void fail(long lineNumber, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BookImportError(lineNumber, message));
+            }
+        }
+    }
+}
@@ -2,30 +2,63 @@ package com.studies.bookstore.application.service;
 
 import com.studies.bookstore.application.exception.InvalidRequestException;
 import com.studies.bookstore.application.exception.RequestNotFoundException;
+import com.studies.bookstore.application.exception.VersionConflictException;
+import com.studies.bookstore.application.model.BookBatchDeleteResult;
+import com.studies.bookstore.application.model.BookBatchResult;
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.CursorResult;
 import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.model.SliceResult;
 import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
 import com.studies.bookstore.application.port.command.UpdateBookCommand;
 import com.studies.bookstore.application.port.in.AddBookUseCase;
 import com.studies.bookstore.application.port.in.DeleteBookUseCase;
+import com.studies.bookstore.application.port.in.ExportBooksUseCase;
 import com.studies.bookstore.application.port.in.GetBookUseCase;
+import com.studies.bookstore.application.port.in.SearchBooksUseCase;
 import com.studies.bookstore.application.port.in.UpdateBookUseCase;
+import com.studies.bookstore.application.port.out.BookQueryPort;
 import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.BookSearchPort;
 import com.studies.bookstore.domain.exception.DomainException;
 import com.studies.bookstore.domain.model.Book;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 
-public class BookService implements AddBookUseCase, GetBookUseCase, UpdateBookUseCase, DeleteBookUseCase {
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class BookService implements AddBookUseCase, GetBookUseCase, UpdateBookUseCase, DeleteBookUseCase,
+        SearchBooksUseCase, ExportBooksUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(BookService.class);
 
     private final BookRepositoryPort repository;
+    private final BookCountEstimator countEstimator;
+    private final BookSearchPort searchIndex;
+    private final BookQueryPort queryPort;
 
     private static final String BD_ERROR_MSG = "Database error: ";
+    static final int MAX_BATCH_SIZE = 500;
+    static final int MAX_PAGE_SIZE = 500;
 
-    public BookService(BookRepositoryPort repository) {
+    public BookService(BookRepositoryPort repository, BookCountEstimator countEstimator, BookSearchPort searchIndex,
+                       BookQueryPort queryPort) {
         this.repository = repository;
+        this.countEstimator = countEstimator;
+        this.searchIndex = searchIndex;
+        this.queryPort = queryPort;
     }
 
     @Override
@@ -33,6 +66,7 @@ public class BookService implements AddBookUseCase, GetBookUseCase, UpdateBookUs
         logger.info("Adding new book: title='{}', author='{}'", request.getTitle(), request.getAuthor());
         try {
             Book saved = repository.save(request);
+            searchIndex.index(saved);
             logger.info("Book added successfully with id={}", saved.getId());
             return saved;
         } catch (DataAccessException ex) {
@@ -63,35 +97,117 @@ public class BookService implements AddBookUseCase, GetBookUseCase, UpdateBookUs
     }
 
     @Override
-    public PagedResult<Book> getAllBooks(int page, int size) {
-        if (page < 0) {
-            logger.warn("Invalid page index: {}", page);
-            throw new InvalidRequestException("Page index must not be negative.");
+    public BookBatchResult getBooksByIds(List<Long> ids) {
+        Set<Long> requested = toIdBatch(ids);
+
+        try {
+            Map<Long, Book> byId = new HashMap<>();
+            for (Book book : repository.findAllByIds(requested)) {
+                byId.put(book.getId(), book);
+            }
+
+            List<Book> books = new ArrayList<>(byId.size());
+            List<Long> missingIds = new ArrayList<>();
+            for (Long id : requested) {
+                Book book = byId.get(id);
+                if (book != null) {
+                    books.add(book);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+
+            logger.info("Retrieved {} of {} requested books", books.size(), requested.size());
+            return new BookBatchResult(books, missingIds);
+        } catch (DataAccessException ex) {
+            logger.error("Error while retrieving {} books by id: {}", requested.size(), ex.getMessage(), ex);
+            throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
         }
-        if (size <= 0) {
-            logger.warn("Invalid page size: {}", size);
-            throw new InvalidRequestException("Page size must be greater than zero.");
+    }
+
+    @Override
+    public PagedResult<BookView> getBookViews(BookFilter filter, int page, int size, BookSort sort) {
+        requireValidPage(page, size);
+        requireValidRanges(filter);
+
+        try {
+            PagedResult<BookView> result = queryPort.findViews(filter, page, size, sort);
+            logger.info("Retrieved {} book views matching {} for page={}, size={}",
+                    result.getContent().size(), filter, page, size);
+            return result;
+        } catch (DataAccessException ex) {
+            logger.error("Error while retrieving book views matching {} for page={}, size={}: {}",
+                    filter, page, size, ex.getMessage(), ex);
+            throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
         }
+    }
+
+    @Override
+    public SliceResult<Book> getBooksSlice(int page, int size) {
+        requireValidPage(page, size);
 
         try {
-            PagedResult<Book> result = repository.findAll(page, size);
-            logger.info("Retrieved {} books for page={}, size={}",
+            SliceResult<Book> result = repository.findSlice(page, size);
+            logger.info("Retrieved {} books for slice page={}, size={}",
                     result.getContent().size(), page, size);
+            return result.withApproximateTotalElements(countEstimator.getEstimate());
+        } catch (DataAccessException ex) {
+            logger.error("Error while retrieving books for slice page={}, size={}: {}", page, size, ex.getMessage(), ex);
+            throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
+        }
+    }
+
+    @Override
+    public CursorResult<Book> getBooksAfter(BookKeyset after, int size, BookSort sort) {
+        requireValidSize(size);
+
+        try {
+            CursorResult<Book> result = repository.findAllAfter(after, size, sort);
+            logger.info("Retrieved {} books after {}, size={}, sort={}",
+                    result.getContent().size(), after, size, sort);
             return result;
         } catch (DataAccessException ex) {
-            logger.error("Error while retrieving books for page={}, size={}: {}", page, size, ex.getMessage(), ex);
+            logger.error("Error while retrieving books after {}, size={}, sort={}: {}",
+                    after, size, sort, ex.getMessage(), ex);
+            throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
+        }
+    }
+
+    @Override
+    public long exportBooks(Consumer<Book> sink) {
+        logger.info("Exporting all books");
+        try {
+            long exported = repository.forEachBook(sink);
+            logger.info("Exported {} books", exported);
+            return exported;
+        } catch (DataAccessException ex) {
+            logger.error("Error while exporting books: {}", ex.getMessage(), ex);
             throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
         }
     }
 
     @Override
-    public Book updateBook(Long id, UpdateBookCommand command) {
+    public PagedResult<Book> searchBooks(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            logger.warn("Attempted to search books with a blank query");
+            throw new InvalidRequestException("Search query must be provided.");
+        }
+        requireValidPage(page, size);
+
+        PagedResult<Book> result = searchIndex.search(query, page, size);
+        logger.info("Search '{}' matched {} books, returning page={}, size={}",
+                query, result.getTotalElements(), page, size);
+        return result;
+    }
+
+    @Override
+    public Book updateBook(Long id, UpdateBookCommand command, Long expectedVersion) {
         try {
             logger.info("Updating book id={} with full update command", id);
-            Book retrievedBook = getBook(id);
-            retrievedBook.updateBook(command);
-            Book updated = repository.update(retrievedBook);
-            logger.info("Book id={} updated successfully", id);
+            Book updated = repository.update(toReplacement(id, command, expectedVersion))
+                    .orElseThrow(() -> missingOrConflicting(id));
+            searchIndex.index(updated);
+            logger.info("Book id={} updated successfully to version {}", id, updated.getVersion());
             return updated;
         } catch (DomainException ex) {
             logger.warn("Domain validation failed when updating book id={}: {}", id, ex.getMessage());
@@ -103,13 +219,22 @@ public class BookService implements AddBookUseCase, GetBookUseCase, UpdateBookUs
     }
 
     @Override
-    public Book partialUpdateBook(Long id, PartialUpdateBookCommand updateBookCommand) {
+    public Book partialUpdateBook(Long id, PartialUpdateBookCommand updateBookCommand, Long expectedVersion) {
         try {
             logger.info("Partially updating book id={} with command", id);
-            Book retrievedBook = getBook(id);
-            retrievedBook.partialUpdateBook(updateBookCommand);
-            Book updated = repository.update(retrievedBook);
-            logger.info("Book id={} partially updated successfully", id);
+            // Nothing to change: answer with the current state instead of writing and bumping the version
+            if (updateBookCommand.isEmpty()) {
+                Book current = getBook(id);
+                requireVersion(current, expectedVersion);
+                return current;
+            }
+            // Validate before the write since no Book is loaded to enforce the rules
+            updateBookCommand.price().ifPresent(Book::validatePrice);
+            updateBookCommand.quantity().ifPresent(Book::validateQuantity);
+            Book updated = repository.partialUpdate(id, updateBookCommand, expectedVersion)
+                    .orElseThrow(() -> missingOrConflicting(id));
+            searchIndex.index(updated);
+            logger.info("Book id={} partially updated successfully to version {}", id, updated.getVersion());
             return updated;
         } catch (DomainException ex) {
             logger.warn("Domain validation failed when partially updating book id={}: {}", id, ex.getMessage());
@@ -120,18 +245,143 @@ public class BookService implements AddBookUseCase, GetBookUseCase, UpdateBookUs
         }
     }
 
+    /**
+     * A command carrying every field replaces the book without reading it first; the write is then
+     * guarded only by the version the client sent. Otherwise the missing fields come from the current row
+     * and the write is guarded by the version that was read.
+     */
+    private Book toReplacement(Long id, UpdateBookCommand command, Long expectedVersion) {
+        if (command.title().isPresent() && command.author().isPresent() && command.category().isPresent()
+                && command.price().isPresent() && command.publicationYear().isPresent()
+                && command.quantity().isPresent()) {
+            return new Book(id, command.title().get(), command.author().get(), command.category().get(),
+                    command.price().get(), command.publicationYear().get(), command.quantity().get(),
+                    expectedVersion);
+        }
+
+        Book retrievedBook = getBook(id);
+        requireVersion(retrievedBook, expectedVersion);
+        retrievedBook.updateBook(command);
+        return retrievedBook;
+    }
+
+    private static void requireVersion(Book book, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(book.getVersion())) {
+            logger.warn("Book id={} is at version {}, client expected {}", book.getId(), book.getVersion(), expectedVersion);
+            throw new VersionConflictException(book.getId());
+        }
+    }
+
+    // An UPDATE that matched no row either lost a version race or targeted a missing book
+    private RuntimeException missingOrConflicting(Long id) {
+        if (!repository.existsById(id)) {
+            logger.warn("Book id={} not found on update", id);
+            return new RequestNotFoundException(id);
+        }
+        logger.warn("Book id={} was modified concurrently", id);
+        return new VersionConflictException(id);
+    }
+
     @Override
     public void deleteBook(Long id) {
-        getBook(id);
-
+        boolean deleted;
         try {
             logger.info("Deleting book id={}", id);
-            repository.deleteById(id);
-            logger.info("Book id={} deleted successfully", id);
+            deleted = repository.deleteById(id);
         } catch (DataAccessException ex) {
             logger.error("Error while deleting book id={}: {}", id, ex.getMessage(), ex);
             throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
         }
+
+        if (!deleted) {
+            logger.warn("Book id={} not found on delete", id);
+            throw new RequestNotFoundException(id);
+        }
+        searchIndex.remove(id);
+        logger.info("Book id={} deleted successfully", id);
     }
 
+    @Override
+    public BookBatchDeleteResult deleteBooksByIds(List<Long> ids) {
+        Set<Long> requested = toIdBatch(ids);
+
+        try {
+            Set<Long> deleted = new HashSet<>(repository.deleteAllByIds(requested));
+
+            List<Long> deletedIds = new ArrayList<>(deleted.size());
+            List<Long> missingIds = new ArrayList<>();
+            for (Long id : requested) {
+                if (deleted.contains(id)) {
+                    deletedIds.add(id);
+                    searchIndex.remove(id);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+
+            logger.info("Deleted {} of {} requested books", deletedIds.size(), requested.size());
+            return new BookBatchDeleteResult(deletedIds, missingIds);
+        } catch (DataAccessException ex) {
+            logger.error("Error while deleting {} books by id: {}", requested.size(), ex.getMessage(), ex);
+            throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
+        }
+    }
+
+    // Deduplicated in request order and bounded, so one batch is always one statement
+    private static Set<Long> toIdBatch(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            logger.warn("Attempted a batch operation with an empty id list");
+            throw new InvalidRequestException("At least one book id must be provided.");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            logger.warn("Attempted a batch operation with a null id");
+            throw new InvalidRequestException("Book ids must not be null.");
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            logger.warn("Too many book ids requested: {}", requested.size());
+            throw new InvalidRequestException("At most " + MAX_BATCH_SIZE + " book ids can be requested at once.");
+        }
+        return requested;
+    }
+
+    private static void requireValidPage(int page, int size) {
+        if (page < 0) {
+            logger.warn("Invalid page index: {}", page);
+            throw new InvalidRequestException("Page index must not be negative.");
+        }
+        requireValidSize(size);
+        // Offset queries skip page * size rows, and JPA takes that offset as an int
+        if ((long) page * size > Integer.MAX_VALUE) {
+            logger.warn("Page offset out of range: page={}, size={}", page, size);
+            throw new InvalidRequestException("Page index is too large for the page size.");
+        }
+    }
+
+    // Listings fetch size + 1 rows to detect a next page, so the size is bounded well below Integer.MAX_VALUE
+    private static void requireValidSize(int size) {
+        if (size <= 0) {
+            logger.warn("Invalid page size: {}", size);
+            throw new InvalidRequestException("Page size must be greater than zero.");
+        }
+        if (size > MAX_PAGE_SIZE) {
+            logger.warn("Page size too large: {}", size);
+            throw new InvalidRequestException("Page size must not exceed " + MAX_PAGE_SIZE + ".");
+        }
+    }
+
+    private static void requireValidRanges(BookFilter filter) {
+        if (filter.minPrice() != null && filter.maxPrice() != null
+                && filter.minPrice().compareTo(filter.maxPrice()) > 0) {
+            logger.warn("Invalid price range: {} - {}", filter.minPrice(), filter.maxPrice());
+            throw new InvalidRequestException("Minimum price must not be greater than maximum price.");
+        }
+        if (filter.minPublicationYear() != null && filter.maxPublicationYear() != null
+                && filter.minPublicationYear() > filter.maxPublicationYear()) {
+            logger.warn("Invalid publication year range: {} - {}",
+                    filter.minPublicationYear(), filter.maxPublicationYear());
+            throw new InvalidRequestException("Minimum publication year must not be greater than maximum publication year.");
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package com.studies.bookstore.application.service;
+
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.PlacedOrder;
+import com.studies.bookstore.application.port.in.CheckoutUseCase;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.application.port.out.OrderRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import com.studies.bookstore.domain.model.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+public class CheckoutService implements CheckoutUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckoutService.class);
+
+    private static final String BD_ERROR_MSG = "Database error: ";
+
+    private final OrderRepositoryPort orderRepository;
+    private final BookSearchPort searchIndex;
+
+    public CheckoutService(OrderRepositoryPort orderRepository, BookSearchPort searchIndex) {
+        this.orderRepository = orderRepository;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public Order checkout(String userId) {
+        try {
+            // The cart is read and emptied inside placeOrder's transaction, under a lock on the cart
+            PlacedOrder placed = orderRepository.placeOrder(userId).orElseThrow(() -> {
+                logger.warn("User '{}' attempted to check out an empty cart", userId);
+                return new InvalidRequestException("Cannot check out an empty cart.");
+            });
+            for (Book book : placed.updatedBooks()) {
+                searchIndex.index(book);
+            }
+
+            Order order = placed.order();
+            logger.info("User '{}' placed order id={} with {} lines, total {}",
+                    userId, order.getId(), order.getLines().size(), order.getTotal());
+            return order;
+        } catch (DataAccessException ex) {
+            logger.error("Error while checking out cart for user '{}': {}", userId, ex.getMessage(), ex);
+            throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.studies.bookstore.application.service;
 
+import com.studies.bookstore.application.exception.InsufficientStockException;
 import com.studies.bookstore.application.exception.InvalidRequestException;
 import com.studies.bookstore.application.exception.RequestNotFoundException;
 import com.studies.bookstore.application.port.in.*;
@@ -37,6 +38,7 @@ public class ShoppingCartService implements AddItemToCartUseCase, UpdateCartItem
 
         try {
             ShoppingCart cart = cartRepository.findByUserId(userId).orElseGet(() -> new ShoppingCart(userId));
+            requireStock(userId, book, cart.getQuantityOf(bookId) + quantity);
             CartItem item = new CartItem(book.getId(), book.getTitle(), book.getPrice(), quantity);
             cart.addItem(item);
             return cartRepository.save(cart);
@@ -54,6 +56,12 @@ public class ShoppingCartService implements AddItemToCartUseCase, UpdateCartItem
         try {
             ShoppingCart cart = cartRepository.findByUserId(userId)
                     .orElseThrow(() -> new RequestNotFoundException(bookId));
+            // Zero removes the item, which needs no stock
+            if (quantity > 0 && cart.getQuantityOf(bookId) > 0) {
+                Book book = bookRepository.findById(bookId)
+                        .orElseThrow(() -> new RequestNotFoundException(bookId));
+                requireStock(userId, book, quantity);
+            }
             cart.updateItemQuantity(bookId, quantity);
             return cartRepository.save(cart);
         } catch (DataAccessException ex) {
@@ -93,4 +101,12 @@ public class ShoppingCartService implements AddItemToCartUseCase, UpdateCartItem
         }
     }
 
+    // Advisory only: stock is taken by a reservation, not while it sits in a cart
+    private static void requireStock(String userId, Book book, int wanted) {
+        if (wanted > book.getQuantity()) {
+            logger.warn("Book id={} has {} in stock, cart for user '{}' wants {}", book.getId(), book.getQuantity(), userId, wanted);
+            throw new InsufficientStockException(book.getId(), wanted);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.studies.bookstore.application.service;
+
+import com.studies.bookstore.application.exception.InsufficientStockException;
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.exception.RequestNotFoundException;
+import com.studies.bookstore.application.port.in.ReserveStockUseCase;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.domain.model.Book;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Stock changes are applied by the database as conditional increments and decrements, never as
+ * read-modify-write in the application, so concurrent reservations cannot oversell.
+ */
+public class StockReservationService implements ReserveStockUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockReservationService.class);
+
+    private static final String BD_ERROR_MSG = "Database error: ";
+
+    private final BookRepositoryPort repository;
+    private final BookSearchPort searchIndex;
+
+    public StockReservationService(BookRepositoryPort repository, BookSearchPort searchIndex) {
+        this.repository = repository;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public Book reserveStock(Long bookId, int quantity) {
+        requirePositive(quantity);
+
+        try {
+            Book updated = repository.reserveStock(bookId, quantity).orElseThrow(() -> {
+                // Only the failure path pays for the extra lookup
+                if (!repository.existsById(bookId)) {
+                    logger.warn("Book id={} not found on stock reservation", bookId);
+                    return new RequestNotFoundException(bookId);
+                }
+                logger.warn("Insufficient stock to reserve {} of book id={}", quantity, bookId);
+                return new InsufficientStockException(bookId, quantity);
+            });
+            searchIndex.index(updated);
+            logger.info("Reserved {} of book id={}, {} left", quantity, bookId, updated.getQuantity());
+            return updated;
+        } catch (DataAccessException ex) {
+            logger.error("Error while reserving stock of book id={}: {}", bookId, ex.getMessage(), ex);
+            throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
+        }
+    }
+
+    @Override
+    public Book releaseStock(Long bookId, int quantity) {
+        requirePositive(quantity);
+
+        try {
+            Book updated = repository.releaseStock(bookId, quantity).orElseThrow(() -> {
+                logger.warn("Book id={} not found on stock release", bookId);
+                return new RequestNotFoundException(bookId);
+            });
+            searchIndex.index(updated);
+            logger.info("Released {} of book id={}, {} left", quantity, bookId, updated.getQuantity());
+            return updated;
+        } catch (DataAccessException ex) {
+            logger.error("Error while releasing stock of book id={}: {}", bookId, ex.getMessage(), ex);
+            throw new InvalidRequestException(BD_ERROR_MSG + ex.getMessage());
+        }
+    }
+
+    private static void requirePositive(int quantity) {
+        if (quantity <= 0) {
+            throw new InvalidRequestException("Quantity must be greater than zero");
+        }
+    }
+}
@@ -17,11 +17,18 @@ public class Book {
     private BigDecimal price;
     private Integer publicationYear;
     private Integer quantity;
+    private final Long version;
 
     public Book(Long id, String title, String author, String category,
                 BigDecimal price, Integer publicationYear, Integer quantity) {
+        this(id, title, author, category, price, publicationYear, quantity, null);
+    }
+
+    public Book(Long id, String title, String author, String category,
+                BigDecimal price, Integer publicationYear, Integer quantity, Long version) {
 
         this.id = id;
+        this.version = version;
         changeTitle(title);
         changeAuthor(author);
         changeCategory(category);
@@ -66,19 +73,31 @@ public class Book {
     }
 
     private void changePrice(BigDecimal price) {
-        if (price.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new DomainException("Price must be greater than 0");
-        }
+        validatePrice(price);
         this.price = price;
     }
 
     private void changeQuantity(Integer quantity) {
+        validateQuantity(quantity);
+        this.quantity = quantity;
+    }
 
+    /**
+     * Same rule as applied when the price is set on a book, for writes that never load one.
+     */
+    public static void validatePrice(BigDecimal price) {
+        if (price.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new DomainException("Price must be greater than 0");
+        }
+    }
+
+    /**
+     * Same rule as applied when the quantity is set on a book, for writes that never load one.
+     */
+    public static void validateQuantity(Integer quantity) {
         if (quantity < 0) {
             throw new DomainException("Quantity cannot be negative");
         }
-
-        this.quantity = quantity;
     }
 
     private void changePublicationYear(Integer year) {
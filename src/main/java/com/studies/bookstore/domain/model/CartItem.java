@@ -12,6 +12,8 @@ public class CartItem {
     private final String title;
     private final BigDecimal unitPrice;
     private Integer quantity;
+    // Kept in step with quantity so reads do not multiply again
+    private BigDecimal subtotal;
 
     public CartItem(Long bookId, String title, BigDecimal unitPrice, Integer quantity) {
         if (bookId == null) {
@@ -29,26 +31,30 @@ public class CartItem {
         this.bookId = bookId;
         this.title = title.trim();
         this.unitPrice = unitPrice;
-        this.quantity = quantity;
+        changeQuantity(quantity);
     }
 
-    public void setQuantity(Integer quantity) {
+    /**
+     * Package-private: quantities change only through {@link ShoppingCart}, which keeps its totals in step.
+     */
+    void setQuantity(Integer quantity) {
         if (quantity == null || quantity <= 0) {
             throw new DomainException("Quantity must be greater than 0");
         }
-        this.quantity = quantity;
+        changeQuantity(quantity);
     }
 
-    public void increaseQuantity(int delta) {
+    void increaseQuantity(int delta) {
         int newQuantity = this.quantity + delta;
         if (newQuantity <= 0) {
             throw new DomainException("Quantity must be greater than 0");
         }
-        this.quantity = newQuantity;
+        changeQuantity(newQuantity);
     }
 
-    public BigDecimal getSubtotal() {
-        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    private void changeQuantity(int quantity) {
+        this.quantity = quantity;
+        this.subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.studies.bookstore.domain.model;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+public class Order {
+
+    private final Long id;
+    private final String userId;
+    private final List<OrderLine> lines;
+    private final Instant createdAt;
+
+    public Order(Long id, String userId, List<OrderLine> lines, Instant createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.lines = List.copyOf(lines);
+        this.createdAt = createdAt;
+    }
+
+    public BigDecimal getTotal() {
+        return lines.stream()
+                .map(OrderLine::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.studies.bookstore.domain.model;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+public class OrderLine {
+
+    private final Long bookId;
+    private final String title;
+    private final BigDecimal unitPrice;
+    private final int quantity;
+
+    public OrderLine(Long bookId, String title, BigDecimal unitPrice, int quantity) {
+        this.bookId = bookId;
+        this.title = title;
+        this.unitPrice = unitPrice;
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getSubtotal() {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+
+}
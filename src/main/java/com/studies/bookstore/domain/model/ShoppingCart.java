@@ -3,61 +3,114 @@ package com.studies.bookstore.domain.model;
 import lombok.Getter;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
-@Getter
 public class ShoppingCart {
 
+    @Getter
     private final String userId;
-    private final List<CartItem> items;
+
+    // Keyed by book id for constant-time lookups; insertion order is the order items were first added
+    private final Map<Long, CartItem> items = new LinkedHashMap<>();
+    // Read-only snapshot of the items, rebuilt lazily after an item is added, replaced or removed
+    private List<CartItem> itemsView;
+
+    // Running totals, adjusted by every mutation instead of recomputed on each read
+    private BigDecimal totalPrice = BigDecimal.ZERO;
+    private int totalQuantity;
 
     public ShoppingCart(String userId) {
-        this(userId, new ArrayList<>());
+        this(userId, List.of());
     }
 
+    /**
+     * Lines for the same book are merged into a new item; the given items are never modified.
+     */
     public ShoppingCart(String userId, List<CartItem> items) {
         this.userId = userId;
-        this.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
+        if (items == null) {
+            return;
+        }
+        for (CartItem item : items) {
+            CartItem existing = this.items.get(item.getBookId());
+            if (existing == null) {
+                this.items.put(item.getBookId(), item);
+                totalPrice = totalPrice.add(item.getSubtotal());
+            } else {
+                CartItem merged = new CartItem(existing.getBookId(), existing.getTitle(), existing.getUnitPrice(),
+                        existing.getQuantity() + item.getQuantity());
+                this.items.put(item.getBookId(), merged);
+                totalPrice = totalPrice.add(merged.getSubtotal().subtract(existing.getSubtotal()));
+            }
+            totalQuantity += item.getQuantity();
+        }
+    }
+
+    /**
+     * Items in the order they were first added, as a read-only list that is reused until the set of items changes.
+     */
+    public List<CartItem> getItems() {
+        if (itemsView == null) {
+            itemsView = List.copyOf(items.values());
+        }
+        return itemsView;
     }
 
     public void addItem(CartItem newItem) {
-        Optional<CartItem> existing = items.stream()
-                .filter(i -> i.getBookId().equals(newItem.getBookId()))
-                .findFirst();
-        if (existing.isPresent()) {
-            existing.get().increaseQuantity(newItem.getQuantity());
+        int added = newItem.getQuantity();
+        CartItem existing = items.putIfAbsent(newItem.getBookId(), newItem);
+        if (existing == null) {
+            itemsView = null;
+            totalPrice = totalPrice.add(newItem.getSubtotal());
         } else {
-            items.add(newItem);
+            BigDecimal before = existing.getSubtotal();
+            existing.increaseQuantity(added);
+            totalPrice = totalPrice.add(existing.getSubtotal().subtract(before));
         }
+        totalQuantity += added;
     }
 
     public void updateItemQuantity(Long bookId, int quantity) {
-        Optional<CartItem> existing = items.stream()
-                .filter(i -> i.getBookId().equals(bookId))
-                .findFirst();
-        existing.ifPresent(item -> {
-            if (quantity <= 0) {
-                items.remove(item);
-            } else {
-                item.setQuantity(quantity);
-            }
-        });
+        CartItem existing = items.get(bookId);
+        if (existing == null) {
+            return;
+        }
+        if (quantity <= 0) {
+            removeItem(bookId);
+        } else {
+            BigDecimal before = existing.getSubtotal();
+            int quantityBefore = existing.getQuantity();
+            existing.setQuantity(quantity);
+            totalPrice = totalPrice.add(existing.getSubtotal().subtract(before));
+            totalQuantity += quantity - quantityBefore;
+        }
     }
 
     public void removeItem(Long bookId) {
-        items.removeIf(i -> i.getBookId().equals(bookId));
+        CartItem removed = items.remove(bookId);
+        if (removed != null) {
+            itemsView = null;
+            totalPrice = totalPrice.subtract(removed.getSubtotal());
+            totalQuantity -= removed.getQuantity();
+        }
+    }
+
+    public int getQuantityOf(Long bookId) {
+        CartItem item = items.get(bookId);
+        return item != null ? item.getQuantity() : 0;
     }
 
     public void clear() {
         items.clear();
+        itemsView = null;
+        totalPrice = BigDecimal.ZERO;
+        totalQuantity = 0;
     }
 
     public BigDecimal getTotalPrice() {
-        return items.stream()
-                .map(CartItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return totalPrice;
     }
 
     public int getItemCount() {
@@ -65,9 +118,7 @@ public class ShoppingCart {
     }
 
     public int getTotalQuantity() {
-        return items.stream()
-                .mapToInt(CartItem::getQuantity)
-                .sum();
+        return totalQuantity;
     }
 
-}
\ No newline at end of file
+}
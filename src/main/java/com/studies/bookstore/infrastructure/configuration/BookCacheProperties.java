@@ -0,0 +1,40 @@
+package com.studies.bookstore.infrastructure.configuration;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "book.cache")
+public class BookCacheProperties {
+
+    /**
+     * Whether lookups by id are served from the in-process book cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of books kept in the cache before least-recently-used entries are evicted.
+     */
+    private int maxSize = 10_000;
+
+    /**
+     * How long a cached book is served before it is reloaded from the database.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
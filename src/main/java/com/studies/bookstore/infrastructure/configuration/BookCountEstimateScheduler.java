@@ -0,0 +1,24 @@
+package com.studies.bookstore.infrastructure.configuration;
+
+import com.studies.bookstore.application.service.BookCountEstimator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "book.count-estimate", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BookCountEstimateScheduler {
+
+    private final BookCountEstimator bookCountEstimator;
+
+    public BookCountEstimateScheduler(BookCountEstimator bookCountEstimator) {
+        this.bookCountEstimator = bookCountEstimator;
+    }
+
+    @Scheduled(fixedDelayString = "${book.count-estimate.refresh-interval:PT1M}")
+    public void refreshBookCountEstimate() {
+        bookCountEstimator.refresh();
+    }
+}
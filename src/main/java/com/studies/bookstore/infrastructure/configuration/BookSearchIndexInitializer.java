@@ -0,0 +1,65 @@
+package com.studies.bookstore.infrastructure.configuration;
+
+import com.studies.bookstore.adapter.out.search.InMemoryBookSearchIndex;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Loads every stored book into the in-memory search index once the application is up,
+ * walking the table in keyset pages so the whole catalog is never held in one result set.
+ */
+@Component
+@ConditionalOnProperty(prefix = "book.search", name = "engine", havingValue = "memory", matchIfMissing = true)
+public class BookSearchIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookSearchIndexInitializer.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BookRepositoryPort repository;
+    private final InMemoryBookSearchIndex searchIndex;
+
+    public BookSearchIndexInitializer(BookRepositoryPort repository, InMemoryBookSearchIndex searchIndex) {
+        this.repository = repository;
+        this.searchIndex = searchIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long started = System.nanoTime();
+        Long afterId = null;
+        searchIndex.startBulkLoad();
+        try {
+            CursorResult<Book> batch;
+            do {
+                BookKeyset after = afterId == null ? null : new BookKeyset(null, afterId);
+                batch = repository.findAllAfter(after, BATCH_SIZE, BookSort.DEFAULT);
+                List<Book> books = batch.getContent();
+                // Books written since startup are already indexed with their latest state; deleted ones are skipped
+                books.forEach(searchIndex::indexIfAbsent);
+                if (!books.isEmpty()) {
+                    afterId = books.get(books.size() - 1).getId();
+                }
+            } while (batch.isHasNext());
+
+            logger.info("Search index built with {} books in {} ms",
+                    searchIndex.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (DataAccessException ex) {
+            logger.error("Error while building the search index after id={}: {}", afterId, ex.getMessage(), ex);
+        } finally {
+            searchIndex.finishBulkLoad();
+        }
+    }
+}
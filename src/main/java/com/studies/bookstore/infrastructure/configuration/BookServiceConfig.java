@@ -1,20 +1,123 @@
 package com.studies.bookstore.infrastructure.configuration;
 
+import com.studies.bookstore.adapter.out.persistence.BookRepositoryAdapter;
+import com.studies.bookstore.adapter.out.persistence.BookViewQueryAdapter;
+import com.studies.bookstore.adapter.out.persistence.JdbcBookRepositoryAdapter;
+import com.studies.bookstore.adapter.out.persistence.JdbcBookViewQueryAdapter;
+import com.studies.bookstore.adapter.out.persistence.JpaBookRepository;
+import com.studies.bookstore.adapter.out.persistence.PostgresBookSearchAdapter;
+import com.studies.bookstore.adapter.out.persistence.cache.BookCache;
+import com.studies.bookstore.adapter.out.persistence.cache.BookCacheMetrics;
+import com.studies.bookstore.adapter.out.persistence.cache.CachingBookRepositoryAdapter;
+import com.studies.bookstore.adapter.out.search.InMemoryBookSearchIndex;
 import com.studies.bookstore.application.port.in.AddBookUseCase;
 import com.studies.bookstore.application.port.in.DeleteBookUseCase;
+import com.studies.bookstore.application.port.in.ExportBooksUseCase;
 import com.studies.bookstore.application.port.in.GetBookUseCase;
+import com.studies.bookstore.application.port.in.ImportBooksUseCase;
+import com.studies.bookstore.application.port.in.ReserveStockUseCase;
+import com.studies.bookstore.application.port.in.SearchBooksUseCase;
 import com.studies.bookstore.application.port.in.UpdateBookUseCase;
+import com.studies.bookstore.application.port.out.BookQueryPort;
 import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.application.service.BookCountEstimator;
+import com.studies.bookstore.application.service.BookImportService;
 import com.studies.bookstore.application.service.BookService;
+import com.studies.bookstore.application.service.StockReservationService;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
 public class BookServiceConfig {
 
     @Bean
-    public BookService bookService(BookRepositoryPort bookRepositoryPort) {
-        return new BookService(bookRepositoryPort);
+    public BookCache bookCache(BookCacheProperties properties) {
+        return new BookCache(properties.getMaxSize(), properties.getTtl());
+    }
+
+    @Bean
+    public MeterBinder bookCacheMetrics(BookCache bookCache) {
+        return new BookCacheMetrics(bookCache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "book.persistence", name = "adapter", havingValue = "jdbc")
+    public JdbcBookRepositoryAdapter jdbcBookRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        return new JdbcBookRepositoryAdapter(jdbcTemplate);
+    }
+
+    @Bean
+    @Primary
+    public BookRepositoryPort cachingBookRepositoryPort(BookRepositoryAdapter bookRepositoryAdapter,
+                                                        ObjectProvider<JdbcBookRepositoryAdapter> jdbcBookRepositoryAdapter,
+                                                        BookCache bookCache,
+                                                        BookCacheProperties properties) {
+        JdbcBookRepositoryAdapter jdbcAdapter = jdbcBookRepositoryAdapter.getIfAvailable();
+        BookRepositoryPort repository = jdbcAdapter != null ? jdbcAdapter : bookRepositoryAdapter;
+        if (!properties.isEnabled()) {
+            return repository;
+        }
+        return new CachingBookRepositoryAdapter(repository, bookCache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "book.persistence", name = "adapter", havingValue = "jdbc")
+    public JdbcBookViewQueryAdapter jdbcBookViewQueryAdapter(JdbcTemplate jdbcTemplate) {
+        return new JdbcBookViewQueryAdapter(jdbcTemplate);
+    }
+
+    // Listings follow the same book.persistence.adapter switch as the repository port
+    @Bean
+    @Primary
+    public BookQueryPort bookQueryPort(BookViewQueryAdapter bookViewQueryAdapter,
+                                       ObjectProvider<JdbcBookViewQueryAdapter> jdbcBookViewQueryAdapter) {
+        JdbcBookViewQueryAdapter jdbcAdapter = jdbcBookViewQueryAdapter.getIfAvailable();
+        return jdbcAdapter != null ? jdbcAdapter : bookViewQueryAdapter;
+    }
+
+    @Bean
+    public BookCountEstimator bookCountEstimator(BookRepositoryPort bookRepositoryPort) {
+        return new BookCountEstimator(bookRepositoryPort);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "book.search", name = "engine", havingValue = "memory", matchIfMissing = true)
+    public InMemoryBookSearchIndex bookSearchIndex() {
+        return new InMemoryBookSearchIndex();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "book.search", name = "engine", havingValue = "postgres")
+    public BookSearchPort postgresBookSearchPort(JpaBookRepository jpaBookRepository) {
+        return new PostgresBookSearchAdapter(jpaBookRepository);
+    }
+
+    @Bean
+    public BookService bookService(BookRepositoryPort bookRepositoryPort,
+                                   BookCountEstimator bookCountEstimator,
+                                   BookSearchPort bookSearchIndex,
+                                   BookQueryPort bookQueryPort) {
+        return new BookService(bookRepositoryPort, bookCountEstimator, bookSearchIndex, bookQueryPort);
+    }
+
+    @Bean
+    public ImportBooksUseCase importBooksUseCase(BookRepositoryPort bookRepositoryPort,
+                                                 BookSearchPort bookSearchIndex,
+                                                 @Value("${book.import.chunk-size:1000}") int chunkSize) {
+        return new BookImportService(bookRepositoryPort, bookSearchIndex, chunkSize);
+    }
+
+    @Bean
+    public ReserveStockUseCase reserveStockUseCase(BookRepositoryPort bookRepositoryPort,
+                                                   BookSearchPort bookSearchIndex) {
+        return new StockReservationService(bookRepositoryPort, bookSearchIndex);
     }
 
     @Bean
@@ -32,8 +135,18 @@ public class BookServiceConfig {
         return bookService;
     }
 
+    @Bean
+    public SearchBooksUseCase searchBooksUseCase(BookService bookService) {
+        return bookService;
+    }
+
+    @Bean
+    public ExportBooksUseCase exportBooksUseCase(BookService bookService) {
+        return bookService;
+    }
+
     @Bean
     public DeleteBookUseCase deleteBookUseCase(BookService bookService) {
         return bookService;
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,20 @@
 package com.studies.bookstore.infrastructure.configuration;
 
 import com.studies.bookstore.adapter.out.persistence.JpaShoppingCartRepository;
+import com.studies.bookstore.adapter.out.persistence.OrderRepositoryAdapter;
 import com.studies.bookstore.adapter.out.persistence.ShoppingCartRepositoryAdapter;
+import com.studies.bookstore.adapter.out.persistence.cache.BookCache;
+import com.studies.bookstore.adapter.out.persistence.cache.CacheInvalidatingOrderRepositoryAdapter;
 import com.studies.bookstore.application.port.in.*;
 import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.application.port.out.OrderRepositoryPort;
 import com.studies.bookstore.application.port.out.ShoppingCartRepositoryPort;
+import com.studies.bookstore.application.service.CheckoutService;
 import com.studies.bookstore.application.service.ShoppingCartService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class ShoppingCartServiceConfig {
@@ -22,6 +29,22 @@ public class ShoppingCartServiceConfig {
         return new ShoppingCartService(cartRepository, bookRepository);
     }
 
+    @Bean
+    @Primary
+    public OrderRepositoryPort cacheInvalidatingOrderRepositoryPort(OrderRepositoryAdapter orderRepositoryAdapter,
+                                                                    BookCache bookCache,
+                                                                    BookCacheProperties properties) {
+        if (!properties.isEnabled()) {
+            return orderRepositoryAdapter;
+        }
+        return new CacheInvalidatingOrderRepositoryAdapter(orderRepositoryAdapter, bookCache);
+    }
+
+    @Bean
+    public CheckoutUseCase checkoutUseCase(OrderRepositoryPort orderRepository, BookSearchPort bookSearchIndex) {
+        return new CheckoutService(orderRepository, bookSearchIndex);
+    }
+
     @Bean
     public AddItemToCartUseCase addItemToCartUseCase(ShoppingCartService service) {
         return service;
@@ -0,0 +1,8 @@
+-- Equality column first, range column second, matching the filters accepted by GET /api/v1/books
+CREATE INDEX IF NOT EXISTS idx_books_category_price ON books (category, price);
+CREATE INDEX IF NOT EXISTS idx_books_category_publication_year ON books (category, publication_year);
+CREATE INDEX IF NOT EXISTS idx_books_author_publication_year ON books (author, publication_year);
+
+-- Range-only filters; id as the trailing column keeps ties in a stable order
+CREATE INDEX IF NOT EXISTS idx_books_price_id ON books (price, id);
+CREATE INDEX IF NOT EXISTS idx_books_publication_year_id ON books (publication_year, id);
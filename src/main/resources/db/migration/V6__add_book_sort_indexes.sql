@@ -0,0 +1,3 @@
+-- Sort keys for listings, each followed by id as the tie-breaker used in ORDER BY and keyset predicates.
+-- (price, id) and (publication_year, id) already exist from V5; the primary key covers sorting by id.
+CREATE INDEX IF NOT EXISTS idx_books_title_id ON books (title, id);
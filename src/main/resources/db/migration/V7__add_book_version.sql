@@ -0,0 +1,2 @@
+-- Optimistic-locking counter, bumped by every UPDATE and compared against If-Match on writes.
+ALTER TABLE books ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
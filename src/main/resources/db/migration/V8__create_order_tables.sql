@@ -0,0 +1,20 @@
+CREATE TABLE orders
+(
+    id         BIGSERIAL      PRIMARY KEY,
+    user_id    VARCHAR(255)   NOT NULL,
+    total      NUMERIC(19, 2) NOT NULL,
+    created_at TIMESTAMPTZ    NOT NULL DEFAULT now()
+);
+
+CREATE TABLE order_line
+(
+    id         BIGSERIAL      PRIMARY KEY,
+    order_id   BIGINT         NOT NULL REFERENCES orders (id) ON DELETE CASCADE,
+    book_id    BIGINT         NOT NULL,
+    title      VARCHAR(255)   NOT NULL,
+    unit_price NUMERIC(19, 2) NOT NULL,
+    quantity   INT            NOT NULL
+);
+
+CREATE INDEX idx_orders_user_id ON orders (user_id);
+CREATE INDEX idx_order_line_order_id ON order_line (order_id);
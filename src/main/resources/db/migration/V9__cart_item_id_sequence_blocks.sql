@@ -0,0 +1,3 @@
+-- Hibernate reserves cart_item ids 50 at a time (pooled optimizer) so inserts can be batched;
+-- the increment must match the entity's allocationSize. Plain nextval() callers still get unique ids.
+ALTER SEQUENCE cart_item_id_seq INCREMENT BY 50;
@@ -1,14 +1,27 @@
 package com.studies.bookstore.adapter.in.controller;
 
+import com.studies.bookstore.adapter.in.controller.dto.BookBatchDeleteResponseDTO;
+import com.studies.bookstore.adapter.in.controller.dto.BookBatchResponseDTO;
 import com.studies.bookstore.adapter.in.controller.dto.BookRequestDTO;
 import com.studies.bookstore.adapter.in.controller.dto.BookResponseDTO;
 import com.studies.bookstore.adapter.in.controller.dto.BookUpdateRequestDTO;
+import com.studies.bookstore.adapter.in.controller.mapper.BookCursorCodec;
+import com.studies.bookstore.application.model.BookBatchDeleteResult;
+import com.studies.bookstore.application.model.BookBatchResult;
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.exception.InvalidRequestException;
 import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.model.SliceResult;
 import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
 import com.studies.bookstore.application.port.command.UpdateBookCommand;
 import com.studies.bookstore.application.port.in.AddBookUseCase;
 import com.studies.bookstore.application.port.in.DeleteBookUseCase;
 import com.studies.bookstore.application.port.in.GetBookUseCase;
+import com.studies.bookstore.application.port.in.SearchBooksUseCase;
 import com.studies.bookstore.application.port.in.UpdateBookUseCase;
 import com.studies.bookstore.domain.model.Book;
 import org.junit.jupiter.api.DisplayName;
@@ -16,16 +29,28 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class BookControllerTest {
 
@@ -33,12 +58,16 @@ class BookControllerTest {
     private final GetBookUseCase getBookUseCase = mock(GetBookUseCase.class);
     private final UpdateBookUseCase updateBookUseCase = mock(UpdateBookUseCase.class);
     private final DeleteBookUseCase deleteBookUseCase = mock(DeleteBookUseCase.class);
+    private final SearchBooksUseCase searchBooksUseCase = mock(SearchBooksUseCase.class);
+
+    private static final BookFilter NO_FILTER = new BookFilter(null, null, null, null, null, null);
 
     private final BookController controller = new BookController(
             addBookUseCase,
             getBookUseCase,
             updateBookUseCase,
-            deleteBookUseCase
+            deleteBookUseCase,
+            searchBooksUseCase
     );
 
     @Test
@@ -76,13 +105,14 @@ class BookControllerTest {
     @Test
     @DisplayName("getBook should return mapped response DTO with links")
     void getBook() {
-        Book book = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5);
+        Book book = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5, 2L);
 
         when(getBookUseCase.getBook(1L)).thenReturn(book);
 
         ResponseEntity<EntityModel<BookResponseDTO>> response = controller.getBook(1L);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"2\"");
         assertThat(response.getBody()).isNotNull();
         BookResponseDTO body = response.getBody().getContent();
         assertThat(body).isNotNull();
@@ -93,14 +123,15 @@ class BookControllerTest {
     @Test
     @DisplayName("getAllBooks should return collection model with mapped DTOs and links")
     void getAllBooks() {
-        Book book1 = new Book(1L, "Book 1", "Author 1", "Category 1", BigDecimal.ONE, 2020, 1);
-        Book book2 = new Book(2L, "Book 2", "Author 2", "Category 2", BigDecimal.TEN, 2021, 2);
+        BookView view1 = new BookView(1L, "Book 1", "Author 1", "Category 1", BigDecimal.ONE, 2020, 1, 0L);
+        BookView view2 = new BookView(2L, "Book 2", "Author 2", "Category 2", BigDecimal.TEN, 2021, 2, 0L);
 
-        PagedResult<Book> pagedResult = new PagedResult<>(List.of(book1, book2), 2L, 1, 0, 10);
+        PagedResult<BookView> pagedResult = new PagedResult<>(List.of(view1, view2), 2L, 1, 0, 10);
 
-        when(getBookUseCase.getAllBooks(0, 10)).thenReturn(pagedResult);
+        when(getBookUseCase.getBookViews(NO_FILTER, 0, 10, BookSort.DEFAULT)).thenReturn(pagedResult);
 
-        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response = controller.getAllBooks(0, 10);
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response =
+                controller.getAllBooks(0, 10, null, null, null, null, null, null, null, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -110,20 +141,214 @@ class BookControllerTest {
         assertThat(content.get(0).getContent().id()).isEqualTo(1L);
         assertThat(content.get(1).getContent()).isNotNull();
         assertThat(content.get(1).getContent().id()).isEqualTo(2L);
+        // the precomputed template must produce exactly what linkTo(methodOn(...)) would
+        assertThat(content.get(1).getRequiredLink(IanaLinkRelations.SELF).getHref())
+                .isEqualTo(linkTo(methodOn(BookController.class).getBook(2L)).withSelfRel().getHref());
+    }
+
+    @Test
+    @DisplayName("getAllBooks should omit item links and keep itemLinks=false in the self link when requested")
+    void getAllBooksWithoutItemLinks() {
+        BookView view = new BookView(1L, "Book 1", "Author 1", "Category 1", BigDecimal.ONE, 2020, 1, 0L);
+        when(getBookUseCase.getBookViews(NO_FILTER, 0, 10, BookSort.DEFAULT))
+                .thenReturn(new PagedResult<>(List.of(view), 1L, 1, 0, 10));
+
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response =
+                controller.getAllBooks(0, 10, null, null, null, null, null, null, null, false);
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getContent()).singleElement()
+                .satisfies(item -> assertThat(item.getLinks()).isEmpty());
+        assertThat(response.getBody().getRequiredLink(IanaLinkRelations.SELF).getHref()).contains("itemLinks=false");
     }
 
     @Test
     @DisplayName("getAllBooks should use default pagination parameters when none provided")
     void getAllBooksDefaultParams() {
-        Book book1 = new Book(1L, "Book 1", "Author 1", "Category 1", BigDecimal.ONE, 2020, 1);
-        PagedResult<Book> pagedResult = new PagedResult<>(List.of(book1), 1L, 1, 0, 10);
+        BookView view = new BookView(1L, "Book 1", "Author 1", "Category 1", BigDecimal.ONE, 2020, 1, 0L);
+        PagedResult<BookView> pagedResult = new PagedResult<>(List.of(view), 1L, 1, 0, 10);
+
+        when(getBookUseCase.getBookViews(NO_FILTER, 0, 10, BookSort.DEFAULT)).thenReturn(pagedResult);
+
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response =
+                controller.getAllBooks(0, 10, null, null, null, null, null, null, null, null);
+
+        verify(getBookUseCase).getBookViews(NO_FILTER, 0, 10, BookSort.DEFAULT);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("getAllBooks should pass filter parameters to the filtered query and keep them in the self link")
+    void getAllBooksFiltered() {
+        BookView view = new BookView(1L, "Book 1", "Author 1", "Fiction", BigDecimal.TEN, 2020, 1, 0L);
+        BookFilter filter = new BookFilter("Fiction", null, BigDecimal.ONE, null, 2000, null);
+
+        when(getBookUseCase.getBookViews(filter, 0, 10, BookSort.DEFAULT)).thenReturn(new PagedResult<>(List.of(view), 1L, 1, 0, 10));
+
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response =
+                controller.getAllBooks(0, 10, "Fiction", null, BigDecimal.ONE, null, 2000, null, null, null);
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getContent()).hasSize(1);
+        assertThat(response.getBody().getLink(IanaLinkRelations.SELF)).hasValueSatisfying(link ->
+                assertThat(link.getHref()).contains("category=Fiction").contains("minYear=2000"));
+    }
+
+    @Test
+    @DisplayName("getBooksByIds should return found books and the ids that were not found")
+    void getBooksByIds() {
+        Book book = new Book(2L, "Book 2", "Author", "Category", BigDecimal.TEN, 2020, 1);
+        when(getBookUseCase.getBooksByIds(List.of(2L, 5L)))
+                .thenReturn(new BookBatchResult(List.of(book), List.of(5L)));
 
-        when(getBookUseCase.getAllBooks(0, 10)).thenReturn(pagedResult);
+        ResponseEntity<BookBatchResponseDTO> response = controller.getBooksByIds(List.of(2L, 5L), new MockHttpServletRequest());
 
-        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response = controller.getAllBooks(0, 10);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().books()).extracting(BookResponseDTO::id).containsExactly(2L);
+        assertThat(response.getBody().missingIds()).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("getBooksSlice should link to neighbouring slices and expose the approximate total as a header")
+    void getBooksSlice() {
+        Book book = new Book(1L, "Book 1", "Author 1", "Category 1", BigDecimal.ONE, 2020, 1);
+
+        when(getBookUseCase.getBooksSlice(1, 1)).thenReturn(new SliceResult<>(List.of(book), 1, 1, true, 100L));
+
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response = controller.getBooksSlice(1, 1, null, new MockHttpServletRequest());
 
-        verify(getBookUseCase).getAllBooks(0, 10);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Total-Count-Estimate")).isEqualTo("100");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getContent()).hasSize(1);
+        assertThat(response.getBody().getLink(IanaLinkRelations.NEXT).orElseThrow().getHref())
+                .contains("page=2").contains("slice=true");
+        assertThat(response.getBody().getLink(IanaLinkRelations.PREV).orElseThrow().getHref())
+                .contains("page=0").contains("slice=true");
+    }
+
+    @Test
+    @DisplayName("getBooksByCursor should continue after the decoded cursor and link to the next page")
+    void getBooksByCursor() {
+        Book book1 = new Book(11L, "Book 11", "Author 1", "Category 1", BigDecimal.ONE, 2020, 1);
+        Book book2 = new Book(12L, "Book 12", "Author 2", "Category 2", BigDecimal.TEN, 2021, 2);
+
+        Book previous = new Book(10L, "Book 10", "Author", "Category", BigDecimal.ONE, 2020, 1);
+        when(getBookUseCase.getBooksAfter(new BookKeyset(null, 10L), 2, BookSort.DEFAULT))
+                .thenReturn(new CursorResult<>(List.of(book1, book2), 2, true));
+
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response =
+                controller.getBooksByCursor(BookCursorCodec.encode(BookSort.DEFAULT, previous), 2, null, null, new MockHttpServletRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getContent()).hasSize(2);
+        assertThat(response.getBody().getLink(IanaLinkRelations.NEXT)).isPresent();
+        assertThat(response.getBody().getLink(IanaLinkRelations.NEXT).get().getHref())
+                .contains("after=" + BookCursorCodec.encode(BookSort.DEFAULT, book2));
+    }
+
+    @Test
+    @DisplayName("getBooksByCursor should start from the beginning and omit next link on the last page")
+    void getBooksByCursorFirstAndLastPage() {
+        Book book1 = new Book(1L, "Book 1", "Author 1", "Category 1", BigDecimal.ONE, 2020, 1);
+
+        when(getBookUseCase.getBooksAfter(null, 10, BookSort.DEFAULT)).thenReturn(new CursorResult<>(List.of(book1), 10, false));
+
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response = controller.getBooksByCursor("", 10, null, null, new MockHttpServletRequest());
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getContent()).hasSize(1);
+        assertThat(response.getBody().getLink(IanaLinkRelations.NEXT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getBooksByCursor should reject a cursor that was not issued by the API")
+    void getBooksByCursorInvalid() {
+        assertThatThrownBy(() -> controller.getBooksByCursor("not-a-cursor", 10, null, null, new MockHttpServletRequest()))
+                .isInstanceOf(InvalidRequestException.class);
+        // The id-only format issued before sorting was supported is no longer accepted
+        String idOnly = Base64.getUrlEncoder().withoutPadding().encodeToString("id:5".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> controller.getBooksByCursor(idOnly, 10, null, null, new MockHttpServletRequest()))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid cursor.");
+    }
+
+    @Test
+    @DisplayName("getBooksByCursor should resume a sorted listing from the sort key and id of the last book")
+    void getBooksByCursorSorted() {
+        BookSort byPriceDesc = new BookSort(BookSort.Property.PRICE, BookSort.Direction.DESC);
+        Book previous = new Book(7L, "Book 7", "Author", "Category", new BigDecimal("19.90"), 2020, 1);
+        Book next = new Book(3L, "Book 3", "Author", "Category", new BigDecimal("19.90"), 2020, 1);
+
+        when(getBookUseCase.getBooksAfter(new BookKeyset("19.90", 7L), 1, byPriceDesc))
+                .thenReturn(new CursorResult<>(List.of(next), 1, true));
+
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response =
+                controller.getBooksByCursor(BookCursorCodec.encode(byPriceDesc, previous), 1, "price,desc", null, new MockHttpServletRequest());
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getLink(IanaLinkRelations.NEXT).orElseThrow().getHref())
+                .contains("after=" + BookCursorCodec.encode(byPriceDesc, next))
+                .contains("sort=price%2Cdesc");
+    }
+
+    @Test
+    @DisplayName("getBooksByCursor should reject a cursor issued for a different sort")
+    void getBooksByCursorSortMismatch() {
+        Book previous = new Book(7L, "Book 7", "Author", "Category", BigDecimal.TEN, 2020, 1);
+        String cursor = BookCursorCodec.encode(BookSort.DEFAULT, previous);
+
+        assertThatThrownBy(() -> controller.getBooksByCursor(cursor, 10, "title", null, new MockHttpServletRequest()))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Cursor does not match the requested sort.");
+    }
+
+    @Test
+    @DisplayName("getBooksSlice and getBooksByCursor should reject filters and sorts they cannot apply")
+    void listingModesShouldRejectUnsupportedParameters() {
+        MockHttpServletRequest filtered = new MockHttpServletRequest();
+        filtered.addParameter("category", "Fiction");
+        MockHttpServletRequest sorted = new MockHttpServletRequest();
+        sorted.addParameter("sort", "price");
+
+        assertThatThrownBy(() -> controller.getBooksSlice(0, 10, null, filtered))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Parameter 'category' cannot be combined with slice=true.");
+        assertThatThrownBy(() -> controller.getBooksSlice(0, 10, null, sorted))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> controller.getBooksByCursor("", 10, null, null, filtered))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Parameter 'category' cannot be combined with after.");
+        verifyNoInteractions(getBookUseCase);
+    }
+
+    @Test
+    @DisplayName("listing modes should map to exactly one handler when their parameters are combined")
+    void listingModesShouldNotOverlap() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/api/v1/books").param("ids", "1").param("after", ""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/books").param("slice", "true").param("after", ""))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(getBookUseCase);
+    }
+
+    @Test
+    @DisplayName("getAllBooks should parse the sort parameter and reject unknown properties")
+    void getAllBooksSorted() {
+        BookSort byYear = new BookSort(BookSort.Property.PUBLICATION_YEAR, BookSort.Direction.ASC);
+        when(getBookUseCase.getBookViews(NO_FILTER, 0, 10, byYear)).thenReturn(new PagedResult<>(List.of(), 0L, 0, 0, 10));
+
+        controller.getAllBooks(0, 10, null, null, null, null, null, null, "publicationYear", null);
+
+        verify(getBookUseCase).getBookViews(NO_FILTER, 0, 10, byYear);
+        assertThatThrownBy(() -> controller.getAllBooks(0, 10, null, null, null, null, null, null, "quantity", null))
+                .isInstanceOf(InvalidRequestException.class);
     }
 
     @Test
@@ -138,13 +363,14 @@ class BookControllerTest {
                 10
         );
 
-        Book updated = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 10);
+        Book updated = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 10, 4L);
 
-        when(updateBookUseCase.updateBook(eq(1L), any(UpdateBookCommand.class))).thenReturn(updated);
+        when(updateBookUseCase.updateBook(eq(1L), any(UpdateBookCommand.class), eq(3L))).thenReturn(updated);
 
-        ResponseEntity<EntityModel<BookResponseDTO>> response = controller.updateBook(1L, request);
+        ResponseEntity<EntityModel<BookResponseDTO>> response = controller.updateBook(1L, request, "\"3\"");
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
         assertThat(response.getBody()).isNotNull();
         BookResponseDTO body = response.getBody().getContent();
         assertThat(body).isNotNull();
@@ -153,12 +379,30 @@ class BookControllerTest {
         assertThat(body.quantity()).isEqualTo(10);
 
         ArgumentCaptor<UpdateBookCommand> captor = ArgumentCaptor.forClass(UpdateBookCommand.class);
-        verify(updateBookUseCase).updateBook(eq(1L), captor.capture());
+        verify(updateBookUseCase).updateBook(eq(1L), captor.capture(), eq(3L));
         UpdateBookCommand passed = captor.getValue();
         assertThat(passed.price()).contains(BigDecimal.TEN);
         assertThat(passed.quantity()).contains(10);
     }
 
+    @Test
+    @DisplayName("searchBooks should return matching books with self and next links")
+    void searchBooks() {
+        Book book = new Book(1L, "Clean Code", "Robert Martin", "Software", BigDecimal.TEN, 2008, 5);
+        when(searchBooksUseCase.searchBooks("clean", 0, 1))
+                .thenReturn(new PagedResult<>(List.of(book), 2, 2, 0, 1));
+
+        ResponseEntity<CollectionModel<EntityModel<BookResponseDTO>>> response = controller.searchBooks("clean", 0, 1);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        CollectionModel<EntityModel<BookResponseDTO>> body = response.getBody();
+        assertThat(body).isNotNull();
+        assertThat(body.getContent()).hasSize(1);
+        assertThat(body.getLink(IanaLinkRelations.SELF)).isPresent();
+        assertThat(body.getLink(IanaLinkRelations.NEXT)).hasValueSatisfying(link ->
+                assertThat(link.getHref()).contains("q=clean").contains("page=1"));
+    }
+
     @Test
     @DisplayName("deleteBook should delegate to use case")
     void deleteBook() {
@@ -167,6 +411,20 @@ class BookControllerTest {
         verify(deleteBookUseCase).deleteBook(1L);
     }
 
+    @Test
+    @DisplayName("deleteBooksByIds should return deleted and missing ids")
+    void deleteBooksByIds() {
+        when(deleteBookUseCase.deleteBooksByIds(List.of(1L, 2L)))
+                .thenReturn(new BookBatchDeleteResult(List.of(1L), List.of(2L)));
+
+        ResponseEntity<BookBatchDeleteResponseDTO> response = controller.deleteBooksByIds(List.of(1L, 2L));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().deletedIds()).containsExactly(1L);
+        assertThat(response.getBody().missingIds()).containsExactly(2L);
+    }
+
     @Test
     @DisplayName("partialUpdateBook should map request DTO to PartialUpdateBookCommand and return updated response with links")
     void partialUpdateBook() {
@@ -177,10 +435,10 @@ class BookControllerTest {
 
         Book updated = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 10);
 
-        when(updateBookUseCase.partialUpdateBook(eq(1L), any(PartialUpdateBookCommand.class)))
+        when(updateBookUseCase.partialUpdateBook(eq(1L), any(PartialUpdateBookCommand.class), isNull()))
                 .thenReturn(updated);
 
-        ResponseEntity<EntityModel<BookResponseDTO>> response = controller.partialUpdateBook(1L, request);
+        ResponseEntity<EntityModel<BookResponseDTO>> response = controller.partialUpdateBook(1L, request, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
@@ -191,10 +449,19 @@ class BookControllerTest {
         assertThat(body.quantity()).isEqualTo(10);
 
         ArgumentCaptor<PartialUpdateBookCommand> captor = ArgumentCaptor.forClass(PartialUpdateBookCommand.class);
-        verify(updateBookUseCase).partialUpdateBook(eq(1L), captor.capture());
+        verify(updateBookUseCase).partialUpdateBook(eq(1L), captor.capture(), isNull());
         PartialUpdateBookCommand passed = captor.getValue();
         assertThat(passed.price()).contains(BigDecimal.valueOf(20));
         assertThat(passed.quantity()).contains(10);
     }
-}
 
+    @Test
+    @DisplayName("partialUpdateBook should reject an If-Match header that is not a strong entity tag")
+    void partialUpdateBookRejectsMalformedIfMatch() {
+        BookUpdateRequestDTO request = new BookUpdateRequestDTO(BigDecimal.TEN, 1);
+
+        assertThatThrownBy(() -> controller.partialUpdateBook(1L, request, "W/\"3\""))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(updateBookUseCase);
+    }
+}
@@ -0,0 +1,48 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studies.bookstore.application.port.in.ExportBooksUseCase;
+import com.studies.bookstore.domain.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BookExportControllerTest {
+
+    private final ExportBooksUseCase exportBooksUseCase = mock(ExportBooksUseCase.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BookExportController controller = new BookExportController(exportBooksUseCase, objectMapper);
+
+    @Test
+    @DisplayName("exportBooks should write one JSON object per line as books are produced")
+    @SuppressWarnings("unchecked")
+    void exportBooks() throws IOException {
+        when(exportBooksUseCase.exportBooks(any())).thenAnswer(inv -> {
+            Consumer<Book> sink = inv.getArgument(0);
+            sink.accept(new Book(1L, "Book 1", "Author", "Category", new BigDecimal("10.50"), 2020, 1));
+            sink.accept(new Book(2L, "Book 2", "Author", "Category", BigDecimal.TEN, 2021, 2));
+            return 2L;
+        });
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportBooks();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(BookExportController.APPLICATION_NDJSON);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Book 1");
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+    }
+}
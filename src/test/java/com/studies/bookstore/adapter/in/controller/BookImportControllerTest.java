@@ -0,0 +1,110 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studies.bookstore.adapter.in.controller.dto.BookImportResponseDTO;
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.BookImportError;
+import com.studies.bookstore.application.model.BookImportResult;
+import com.studies.bookstore.application.model.BookImportRow;
+import com.studies.bookstore.application.port.in.ImportBooksUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookImportControllerTest {
+
+    private final ImportBooksUseCase importBooksUseCase = mock(ImportBooksUseCase.class);
+    private final BookImportController controller = new BookImportController(importBooksUseCase, new ObjectMapper());
+
+    private final List<BookImportRow> received = new ArrayList<>();
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void captureRows() {
+        when(importBooksUseCase.importBooks(any())).thenAnswer(inv -> {
+            ((Iterator<BookImportRow>) inv.getArgument(0)).forEachRemaining(received::add);
+            return new BookImportResult(received.size(), 0, List.of(), false);
+        });
+    }
+
+    @Test
+    @DisplayName("importBooks should stream CSV rows using the header order, quoted fields and line numbers")
+    void importCsv() throws IOException {
+        captureRows();
+        String csv = """
+                quantity,title,author,category,price,publicationYear
+                3,"Clean Code, 2nd ""Edition\""",Robert Martin,Software,45.90,2008
+
+                1,Refactoring,Martin Fowler,Software,50.00,2018
+                2,"Broken,Author,Category,1,2020
+                """;
+
+        ResponseEntity<BookImportResponseDTO> response = controller.importBooks("text/csv", body(csv));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(received).hasSize(3);
+        assertThat(received.get(0).title()).isEqualTo("Clean Code, 2nd \"Edition\"");
+        assertThat(received.get(0).quantity()).isEqualTo("3");
+        assertThat(received.get(1).lineNumber()).isEqualTo(4);
+        assertThat(received.get(2).error()).isEqualTo("Unterminated quoted field");
+    }
+
+    @Test
+    @DisplayName("importBooks should stream NDJSON rows and mark invalid JSON lines as malformed")
+    void importNdjson() throws IOException {
+        captureRows();
+        String ndjson = """
+                {"title":"Clean Code","author":"Robert Martin","category":"Software","price":45.9,"publicationYear":2008,"quantity":3}
+                not json
+                """;
+
+        controller.importBooks("application/x-ndjson", body(ndjson));
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).price()).isEqualTo("45.9");
+        assertThat(received.get(0).publicationYear()).isEqualTo("2008");
+        assertThat(received.get(1).lineNumber()).isEqualTo(2);
+        assertThat(received.get(1).error()).startsWith("Invalid JSON");
+    }
+
+    @Test
+    @DisplayName("importBooks should map the import result to the response")
+    void mapsResult() throws IOException {
+        when(importBooksUseCase.importBooks(any()))
+                .thenReturn(new BookImportResult(1, 1, List.of(new BookImportError(3, "Invalid publication year")), false));
+
+        ResponseEntity<BookImportResponseDTO> response =
+                controller.importBooks("text/csv; charset=UTF-8", body("title,author,category,price,publicationYear,quantity\n"));
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().importedCount()).isEqualTo(1);
+        assertThat(response.getBody().errors()).singleElement()
+                .satisfies(error -> assertThat(error.line()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("importBooks should reject a CSV body whose header lacks a column")
+    void rejectsIncompleteHeader() {
+        assertThatThrownBy(() -> controller.importBooks("text/csv", body("title,author\nA,B\n")))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("CSV header is missing column 'category'.");
+    }
+}
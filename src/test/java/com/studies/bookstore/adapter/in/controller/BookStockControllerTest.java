@@ -0,0 +1,47 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import com.studies.bookstore.adapter.in.controller.dto.BookResponseDTO;
+import com.studies.bookstore.adapter.in.controller.dto.StockRequestDTO;
+import com.studies.bookstore.application.port.in.ReserveStockUseCase;
+import com.studies.bookstore.domain.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class BookStockControllerTest {
+
+    private final ReserveStockUseCase reserveStockUseCase = mock(ReserveStockUseCase.class);
+    private final BookStockController controller = new BookStockController(reserveStockUseCase);
+
+    @Test
+    @DisplayName("reserveStock should delegate and return the remaining stock")
+    void reserveStock() {
+        when(reserveStockUseCase.reserveStock(1L, 2))
+                .thenReturn(new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 3));
+
+        ResponseEntity<BookResponseDTO> response = controller.reserveStock(1L, new StockRequestDTO(2));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().quantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("releaseStock should delegate and return the restored stock")
+    void releaseStock() {
+        when(reserveStockUseCase.releaseStock(1L, 2))
+                .thenReturn(new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5));
+
+        ResponseEntity<BookResponseDTO> response = controller.releaseStock(1L, new StockRequestDTO(2));
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().quantity()).isEqualTo(5);
+        verify(reserveStockUseCase).releaseStock(1L, 2);
+    }
+}
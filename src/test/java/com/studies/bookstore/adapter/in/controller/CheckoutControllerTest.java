@@ -0,0 +1,53 @@
+package com.studies.bookstore.adapter.in.controller;
+
+import com.studies.bookstore.adapter.in.controller.dto.OrderResponseDTO;
+import com.studies.bookstore.application.port.in.CheckoutUseCase;
+import com.studies.bookstore.domain.model.Order;
+import com.studies.bookstore.domain.model.OrderLine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CheckoutControllerTest {
+
+    private final CheckoutUseCase checkoutUseCase = mock(CheckoutUseCase.class);
+    private final CheckoutController controller = new CheckoutController(checkoutUseCase);
+
+    @BeforeEach
+    void setUpSecurityContext() {
+        SecurityContext context = Mockito.mock(SecurityContext.class);
+        Authentication auth = new UsernamePasswordAuthenticationToken("user1", null, List.of());
+        when(context.getAuthentication()).thenReturn(auth);
+        SecurityContextHolder.setContext(context);
+    }
+
+    @Test
+    @DisplayName("checkout should place the current user's order and return 201 with its lines")
+    void checkout() {
+        Order order = new Order(10L, "user1",
+                List.of(new OrderLine(1L, "Book 1", BigDecimal.TEN, 2)), Instant.parse("2024-01-01T00:00:00Z"));
+        when(checkoutUseCase.checkout("user1")).thenReturn(order);
+
+        ResponseEntity<OrderResponseDTO> response = controller.checkout();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().id()).isEqualTo(10L);
+        assertThat(response.getBody().lines()).hasSize(1);
+        assertThat(response.getBody().total()).isEqualByComparingTo("20");
+    }
+}
@@ -2,13 +2,17 @@ package com.studies.bookstore.adapter.in.controller;
 
 import com.studies.bookstore.adapter.in.controller.error.ApiErrorResponse;
 import com.studies.bookstore.adapter.in.controller.error.ErrorCode;
+import com.studies.bookstore.application.exception.InsufficientStockException;
 import com.studies.bookstore.application.exception.InvalidRequestException;
 import com.studies.bookstore.application.exception.RequestNotFoundException;
+import com.studies.bookstore.application.exception.VersionConflictException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -40,6 +44,51 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getCode()).isEqualTo(ErrorCode.BAD_REQUEST);
     }
 
+    @Test
+    @DisplayName("handleVersionConflict should map to 412 VERSION_CONFLICT when If-Match was sent")
+    void handleVersionConflictWithIfMatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_MATCH, "\"1\"");
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleVersionConflict(new VersionConflictException(1L), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo(ErrorCode.VERSION_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("handleVersionConflict should map to 409 VERSION_CONFLICT when no If-Match was sent")
+    void handleVersionConflictWithoutIfMatch() {
+        ResponseEntity<ApiErrorResponse> response = handler.handleVersionConflict(
+                new VersionConflictException(1L), new MockHttpServletRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo(ErrorCode.VERSION_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("handleVersionConflict should map to 409 VERSION_CONFLICT when If-Match is *")
+    void handleVersionConflictWithWildcardIfMatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_MATCH, "*");
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleVersionConflict(new VersionConflictException(1L), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("handleInsufficientStock should map to 409 INSUFFICIENT_STOCK")
+    void handleInsufficientStock() {
+        ResponseEntity<ApiErrorResponse> response = handler.handleInsufficientStock(new InsufficientStockException(1L, 2));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+    }
+
     @Test
     @DisplayName("handleNoHandlerFound should map /api/v1/books to BAD_REQUEST")
     void handleNoHandlerFoundBooks() {
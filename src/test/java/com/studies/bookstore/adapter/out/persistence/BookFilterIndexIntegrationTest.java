@@ -0,0 +1,137 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.AbstractPostgresContainerTest;
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.port.out.BookQueryPort;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads a catalog-sized table and checks the plans of the filter shapes produced by {@link BookSpecifications}
+ * and of the sorted and keyset listings.
+ */
+@DataJpaTest
+@Import({BookRepositoryAdapter.class, BookViewQueryAdapter.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookFilterIndexIntegrationTest extends AbstractPostgresContainerTest {
+
+    private static final int CATALOG_ROWS = 200_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BookRepositoryPort bookRepository;
+
+    @Autowired
+    private BookQueryPort bookQuery;
+
+    @BeforeEach
+    void loadCatalog() {
+        entityManager.createNativeQuery("""
+                INSERT INTO books (title, author, category, price, publication_year, quantity)
+                SELECT 'Title ' || g,
+                       'Author ' || (g % 5000),
+                       'Category ' || (g % 50),
+                       (g % 10000) / 100.0,
+                       1900 + (g % 125),
+                       g % 20
+                FROM generate_series(1, :rows) AS g
+                """).setParameter("rows", CATALOG_ROWS).executeUpdate();
+        entityManager.createNativeQuery("ANALYZE books").executeUpdate();
+    }
+
+    @Test
+    @DisplayName("filter query should combine equality and range criteria")
+    void shouldFilter() {
+        BookFilter filter = new BookFilter("Category 7", null,
+                new BigDecimal("10.00"), new BigDecimal("20.00"), null, null);
+
+        PagedResult<BookView> result = bookQuery.findViews(filter, 0, 20, BookSort.DEFAULT);
+
+        assertThat(result.getContent()).isNotEmpty()
+                .allSatisfy(book -> {
+                    assertThat(book.category()).isEqualTo("Category 7");
+                    assertThat(book.price()).isBetween(new BigDecimal("10.00"), new BigDecimal("20.00"));
+                });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "category = 'Category 7' AND price BETWEEN 10 AND 20",
+            "category = 'Category 7' AND publication_year BETWEEN 1990 AND 2000",
+            "author = 'Author 42' AND publication_year >= 2000",
+            "author = 'Author 42'",
+            "price BETWEEN 10 AND 10.5",
+            "publication_year = 1950 AND price <= 1"
+    })
+    @DisplayName("filter shapes should be planned as index scans, not sequential scans")
+    @SuppressWarnings("unchecked")
+    void filterShouldUseIndex(String predicate) {
+        List<String> plan = entityManager
+                .createNativeQuery("EXPLAIN SELECT * FROM books WHERE " + predicate + " ORDER BY id LIMIT 20")
+                .getResultList();
+        String text = String.join("\n", plan);
+
+        assertThat(text).doesNotContain("Seq Scan on books");
+        assertThat(text).containsPattern("Index Scan|Index Only Scan|Bitmap Index Scan");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "ORDER BY price, id LIMIT 20",
+            "ORDER BY price DESC, id DESC LIMIT 20",
+            "WHERE (price, id) > (50, 1000) ORDER BY price, id LIMIT 20",
+            "WHERE (publication_year, id) < (1950, 1000) ORDER BY publication_year DESC, id DESC LIMIT 20",
+            "WHERE (title, id) > ('Title 5', 5) ORDER BY title, id LIMIT 20"
+    })
+    @DisplayName("sorted and keyset listings should read rows in index order instead of sorting the table")
+    @SuppressWarnings("unchecked")
+    void sortedListingShouldUseIndexOrder(String clause) {
+        List<String> plan = entityManager
+                .createNativeQuery("EXPLAIN SELECT * FROM books " + clause)
+                .getResultList();
+        String text = String.join("\n", plan);
+
+        assertThat(text).doesNotContain("Seq Scan on books");
+        assertThat(text).doesNotContainPattern("(?m)^\\s*(->\\s*)?Sort\\b");
+        assertThat(text).contains("Index Scan");
+    }
+
+    @Test
+    @DisplayName("keyset pages by price descending should continue exactly after the previous page")
+    void shouldPageByPriceKeyset() {
+        BookSort byPriceDesc = new BookSort(BookSort.Property.PRICE, BookSort.Direction.DESC);
+
+        CursorResult<Book> first = bookRepository.findAllAfter(null, 3, byPriceDesc);
+        Book last = first.getContent().get(2);
+        CursorResult<Book> second = bookRepository.findAllAfter(
+                new BookKeyset(last.getPrice().toPlainString(), last.getId()), 3, byPriceDesc);
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(3).allSatisfy(book -> {
+            int byPrice = book.getPrice().compareTo(last.getPrice());
+            assertThat(byPrice < 0 || (byPrice == 0 && book.getId() < last.getId())).isTrue();
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.AbstractPostgresContainerTest;
+import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.port.out.BookQueryPort;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behaviour every {@link BookQueryPort} adapter must share. Subclasses import the adapter under test.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class BookQueryPortContractTest extends AbstractPostgresContainerTest {
+
+    private static final BookFilter NO_FILTER = new BookFilter(null, null, null, null, null, null);
+
+    @Autowired
+    private BookQueryPort adapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(new JpaBookEntity(null, "Dune", "Herbert", "Fiction", new BigDecimal("12.50"), 1965, 3, null));
+        entityManager.persist(new JpaBookEntity(null, "Emma", "Austen", "Classic", new BigDecimal("8.00"), 1815, 1, null));
+        entityManager.persist(new JpaBookEntity(null, "Solaris", "Lem", "Fiction", new BigDecimal("9.90"), 1961, 7, null));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("should project filtered, sorted rows without loading entities")
+    void shouldProjectFilteredRows() {
+        BookFilter fiction = new BookFilter("Fiction", null, null, null, null, null);
+        BookSort byPrice = new BookSort(BookSort.Property.PRICE, BookSort.Direction.ASC);
+
+        PagedResult<BookView> result = adapter.findViews(fiction, 0, 10, byPrice);
+
+        assertThat(result.getContent()).extracting(BookView::title).containsExactly("Solaris", "Dune");
+        assertThat(result.getContent().get(0).publicationYear()).isEqualTo(1961);
+        assertThat(result.getContent().get(0).version()).isZero();
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should count the whole result when a page is full")
+    void shouldCountWhenPageIsFull() {
+        PagedResult<BookView> result = adapter.findViews(NO_FILTER, 0, 2, BookSort.DEFAULT);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+
+        PagedResult<BookView> last = adapter.findViews(NO_FILTER, 1, 2, BookSort.DEFAULT);
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.getTotalElements()).isEqualTo(3);
+    }
+}
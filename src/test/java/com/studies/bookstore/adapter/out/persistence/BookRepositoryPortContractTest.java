@@ -0,0 +1,277 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.AbstractPostgresContainerTest;
+import com.studies.bookstore.adapter.out.persistence.entity.JpaBookEntity;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behaviour every {@link BookRepositoryPort} adapter must share. Subclasses import the adapter under test;
+ * assertions on stored state go through the JPA repository, which sees the same transaction.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class BookRepositoryPortContractTest extends AbstractPostgresContainerTest {
+
+    @Autowired
+    private JpaBookRepository jpaBookRepository;
+
+    @Autowired
+    private BookRepositoryPort bookRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("should persist and load book using real JPA + Flyway schema")
+    void shouldPersistAndLoadBook() {
+        // given
+        Book book = new Book(null, "Book 1", "Author", "Category",
+                new BigDecimal("19.99"), 2024, 10);
+
+        // when
+        Book saved = bookRepository.save(book);
+
+        // then - verify entity state
+        Long id = saved.getId();
+        JpaBookEntity entity = jpaBookRepository.findById(id).orElseThrow();
+        assertThat(entity.title).isEqualTo("Book 1");
+        assertThat(entity.author).isEqualTo("Author");
+        assertThat(entity.category).isEqualTo("Category");
+        assertThat(entity.price).isEqualByComparingTo(new BigDecimal("19.99"));
+        assertThat(entity.publicationYear).isEqualTo(2024);
+        assertThat(entity.quantity).isEqualTo(10);
+
+        // and via port
+        Book loaded = bookRepository.findById(id).orElseThrow();
+        assertThat(loaded.getTitle()).isEqualTo("Book 1");
+        assertThat(loaded.getAuthor()).isEqualTo("Author");
+        assertThat(loaded.getCategory()).isEqualTo("Category");
+        assertThat(loaded.getPrice()).isEqualByComparingTo(new BigDecimal("19.99"));
+        assertThat(loaded.getPublicationYear()).isEqualTo(2024);
+        assertThat(loaded.getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("should update existing book when saving with same id")
+    void shouldUpdateExistingBook() {
+        // given - initial save
+        Book original = new Book(null, "Original Title", "Original Author", "Category",
+                new BigDecimal("9.99"), 2020, 5);
+        Book saved = bookRepository.save(original);
+        Long id = saved.getId();
+
+        // sanity check
+        JpaBookEntity initialEntity = jpaBookRepository.findById(id).orElseThrow();
+        assertThat(initialEntity.title).isEqualTo("Original Title");
+        assertThat(initialEntity.quantity).isEqualTo(5);
+
+        // when - update the same book
+        Book updated = new Book(id, "Updated Title", "Updated Author", "New Category",
+                new BigDecimal("14.99"), 2021, 8);
+        Book returned = bookRepository.update(updated).orElseThrow();
+        // the UPDATE bypasses the persistence context, so drop the entity cached by save
+        entityManager.clear();
+
+        // then - entity should reflect updated fields and the bumped version
+        assertThat(returned.getVersion()).isEqualTo(1L);
+        JpaBookEntity entity = jpaBookRepository.findById(id).orElseThrow();
+        assertThat(entity.title).isEqualTo("Updated Title");
+        assertThat(entity.author).isEqualTo("Updated Author");
+        assertThat(entity.category).isEqualTo("New Category");
+        assertThat(entity.price).isEqualByComparingTo(new BigDecimal("14.99"));
+        assertThat(entity.publicationYear).isEqualTo(2021);
+        assertThat(entity.quantity).isEqualTo(8);
+        assertThat(entity.version).isEqualTo(1L);
+
+        // and via port
+        Book loaded = bookRepository.findById(id).orElseThrow();
+        assertThat(loaded.getTitle()).isEqualTo("Updated Title");
+        assertThat(loaded.getQuantity()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("should insert many books in one statement and return each with the id of its own row")
+    void shouldInsertAll() {
+        List<Book> books = List.of(
+                new Book(null, "Bulk 1", "Author", "Category", new BigDecimal("10.00"), 2020, 1),
+                new Book(null, "Bulk 2", "Author", "Category", new BigDecimal("11.00"), 2021, 2));
+
+        List<Book> inserted = bookRepository.insertAll(books);
+
+        assertThat(inserted).extracting(Book::getTitle).containsExactlyInAnyOrder("Bulk 1", "Bulk 2");
+        assertThat(inserted).allSatisfy(book -> {
+            assertThat(book.getVersion()).isZero();
+            assertThat(jpaBookRepository.findById(book.getId()).orElseThrow().title).isEqualTo(book.getTitle());
+        });
+    }
+
+    @Test
+    @DisplayName("should stream every book in id order through the cursor")
+    void shouldStreamAllBooks() {
+        bookRepository.insertAll(List.of(
+                new Book(null, "Stream 1", "Author", "Category", new BigDecimal("10.00"), 2020, 1),
+                new Book(null, "Stream 2", "Author", "Category", new BigDecimal("10.00"), 2020, 1)));
+        List<Long> ids = new ArrayList<>();
+
+        long count = bookRepository.forEachBook(book -> ids.add(book.getId()));
+
+        assertThat(count).isEqualTo(ids.size()).isGreaterThanOrEqualTo(2);
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    @DisplayName("should load several books by id in a single query and skip unknown ids")
+    void shouldFindAllByIds() {
+        Book first = bookRepository.save(new Book(null, "Batch 1", "Author", "Category",
+                new BigDecimal("10.00"), 2020, 1));
+        Book second = bookRepository.save(new Book(null, "Batch 2", "Author", "Category",
+                new BigDecimal("10.00"), 2020, 1));
+
+        assertThat(bookRepository.findAllByIds(List.of(second.getId(), -1L, first.getId())))
+                .extracting(Book::getId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("should page by keyset on id and report whether a next page exists")
+    void shouldPageByKeyset() {
+        Book first = bookRepository.save(new Book(null, "Keyset 1", "Author", "Category",
+                new BigDecimal("10.00"), 2020, 1));
+        Book second = bookRepository.save(new Book(null, "Keyset 2", "Author", "Category",
+                new BigDecimal("10.00"), 2020, 1));
+        Book third = bookRepository.save(new Book(null, "Keyset 3", "Author", "Category",
+                new BigDecimal("10.00"), 2020, 1));
+
+        CursorResult<Book> page = bookRepository.findAllAfter(new BookKeyset(null, first.getId()), 1, BookSort.DEFAULT);
+
+        assertThat(page.getContent()).extracting(Book::getId).containsExactly(second.getId());
+        assertThat(page.isHasNext()).isTrue();
+
+        CursorResult<Book> last = bookRepository.findAllAfter(new BookKeyset(null, second.getId()), 5, BookSort.DEFAULT);
+
+        assertThat(last.getContent()).extracting(Book::getId).containsExactly(third.getId());
+        assertThat(last.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("update should only write a versioned book while the stored version still matches")
+    void updateShouldCheckVersion() {
+        Book saved = bookRepository.save(new Book(null, "Title", "Author", "Category",
+                new BigDecimal("9.99"), 2020, 5));
+        Long id = saved.getId();
+        assertThat(saved.getVersion()).isZero();
+
+        Book first = bookRepository.update(new Book(id, "First", "Author", "Category",
+                new BigDecimal("9.99"), 2020, 5, 0L)).orElseThrow();
+        assertThat(first.getVersion()).isEqualTo(1L);
+
+        // a second writer still holding version 0 loses
+        assertThat(bookRepository.update(new Book(id, "Second", "Author", "Category",
+                new BigDecimal("9.99"), 2020, 5, 0L))).isEmpty();
+        assertThat(bookRepository.update(new Book(id + 1000, "Missing", "Author", "Category",
+                new BigDecimal("9.99"), 2020, 5))).isEmpty();
+
+        entityManager.clear();
+        assertThat(bookRepository.findById(id).orElseThrow().getTitle()).isEqualTo("First");
+    }
+
+    @Test
+    @DisplayName("partialUpdate should write only the fields present in the command")
+    void partialUpdateShouldWritePresentFields() {
+        Book saved = bookRepository.save(new Book(null, "Title", "Author", "Category",
+                new BigDecimal("9.99"), 2020, 5));
+
+        Book patched = bookRepository.partialUpdate(saved.getId(),
+                new PartialUpdateBookCommand(Optional.of(new BigDecimal("12.50")), Optional.empty()), 0L).orElseThrow();
+
+        assertThat(patched.getPrice()).isEqualByComparingTo(new BigDecimal("12.50"));
+        assertThat(patched.getQuantity()).isEqualTo(5);
+        assertThat(patched.getTitle()).isEqualTo("Title");
+        assertThat(patched.getVersion()).isEqualTo(1L);
+        assertThat(bookRepository.partialUpdate(saved.getId(),
+                new PartialUpdateBookCommand(Optional.empty(), Optional.of(1)), 0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteById and deleteAllByIds should report which rows were deleted")
+    void deletesShouldReportAffectedRows() {
+        List<Book> saved = bookRepository.insertAll(List.of(
+                new Book(null, "A", "Author", "Category", new BigDecimal("1.00"), 2020, 1),
+                new Book(null, "B", "Author", "Category", new BigDecimal("2.00"), 2020, 1),
+                new Book(null, "C", "Author", "Category", new BigDecimal("3.00"), 2020, 1)));
+        Long first = saved.get(0).getId();
+        Long second = saved.get(1).getId();
+        Long third = saved.get(2).getId();
+
+        assertThat(bookRepository.deleteById(first)).isTrue();
+        assertThat(bookRepository.deleteById(first)).isFalse();
+        assertThat(bookRepository.deleteAllByIds(List.of(first, second, third)))
+                .containsExactlyInAnyOrder(second, third);
+        assertThat(bookRepository.findAllByIds(List.of(first, second, third))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reserveStock should only decrement while enough stock is left and releaseStock should add it back")
+    void stockShouldNeverGoNegative() {
+        Long id = bookRepository.save(new Book(null, "Title", "Author", "Category",
+                new BigDecimal("9.99"), 2020, 3)).getId();
+
+        assertThat(bookRepository.reserveStock(id, 2)).hasValueSatisfying(book ->
+                assertThat(book.getQuantity()).isEqualTo(1));
+        assertThat(bookRepository.reserveStock(id, 2)).isEmpty();
+        assertThat(bookRepository.releaseStock(id, 2)).hasValueSatisfying(book ->
+                assertThat(book.getQuantity()).isEqualTo(3));
+        assertThat(bookRepository.reserveStock(id + 1000, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAllAfter should continue a non-id sort from the keyset of the last row")
+    void findAllAfterShouldFollowSortKeyset() {
+        List<Book> saved = new ArrayList<>(bookRepository.insertAll(List.of(
+                new Book(null, "Keyset Sort", "Author", "Category", new BigDecimal("100001.00"), 2020, 1),
+                new Book(null, "Keyset Sort", "Author", "Category", new BigDecimal("100002.00"), 2020, 1))));
+        saved.sort(Comparator.comparing(Book::getPrice));
+        BookSort byPrice = new BookSort(BookSort.Property.PRICE, BookSort.Direction.DESC);
+
+        CursorResult<Book> first = bookRepository.findAllAfter(null, 1, byPrice);
+        assertThat(first.getContent()).extracting(Book::getId).containsExactly(saved.get(1).getId());
+        assertThat(first.isHasNext()).isTrue();
+
+        CursorResult<Book> next = bookRepository.findAllAfter(
+                new BookKeyset("100002.00", saved.get(1).getId()), 1, byPrice);
+        assertThat(next.getContent()).extracting(Book::getId).containsExactly(saved.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("findById and existsById should agree on present and missing ids")
+    void findByIdAndExistsById() {
+        Long id = bookRepository.save(new Book(null, "Lookup", "Author", "Category",
+                new BigDecimal("9.99"), 2020, 5)).getId();
+
+        assertThat(bookRepository.findById(id)).hasValueSatisfying(book ->
+                assertThat(book.getVersion()).isZero());
+        assertThat(bookRepository.existsById(id)).isTrue();
+        assertThat(bookRepository.findById(id + 1000)).isEmpty();
+        assertThat(bookRepository.existsById(id + 1000)).isFalse();
+        assertThat(bookRepository.estimateCount()).isPositive();
+    }
+}
@@ -0,0 +1,7 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import org.springframework.context.annotation.Import;
+
+@Import(BookViewQueryAdapter.class)
+class BookViewQueryAdapterIntegrationTest extends BookQueryPortContractTest {
+}
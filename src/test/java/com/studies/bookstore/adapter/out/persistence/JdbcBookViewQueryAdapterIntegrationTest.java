@@ -0,0 +1,7 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import org.springframework.context.annotation.Import;
+
+@Import(JdbcBookViewQueryAdapter.class)
+class JdbcBookViewQueryAdapterIntegrationTest extends BookQueryPortContractTest {
+}
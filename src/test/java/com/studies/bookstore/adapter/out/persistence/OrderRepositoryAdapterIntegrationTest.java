@@ -0,0 +1,162 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.AbstractPostgresContainerTest;
+import com.studies.bookstore.application.exception.InsufficientStockException;
+import com.studies.bookstore.application.exception.RequestNotFoundException;
+import com.studies.bookstore.application.model.PlacedOrder;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.OrderRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({BookRepositoryAdapter.class, OrderRepositoryAdapter.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderRepositoryAdapterIntegrationTest extends AbstractPostgresContainerTest {
+
+    @Autowired
+    private BookRepositoryPort bookRepository;
+
+    @Autowired
+    private OrderRepositoryPort orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("placeOrder should take stock, write the order with all lines and empty the cart")
+    void shouldPlaceOrder() {
+        List<Book> books = bookRepository.insertAll(List.of(
+                new Book(null, "A", "Author", "Category", new BigDecimal("10.00"), 2020, 5),
+                new Book(null, "B", "Author", "Category", new BigDecimal("2.50"), 2020, 1)));
+        Long a = idOf(books, "A");
+        Long b = idOf(books, "B");
+        jdbcTemplate.update("INSERT INTO shopping_cart (user_id) VALUES ('buyer')");
+        jdbcTemplate.update("INSERT INTO cart_item (user_id, book_id, title, unit_price, quantity) VALUES "
+                + "('buyer', ?, 'A', 10.00, 2), ('buyer', ?, 'B', 2.50, 1)", a, b);
+
+        PlacedOrder placed = orderRepository.placeOrder("buyer").orElseThrow();
+
+        assertThat(placed.order().getId()).isNotNull();
+        assertThat(placed.order().getTotal()).isEqualByComparingTo("22.50");
+        assertThat(placed.updatedBooks()).extracting(Book::getQuantity).containsExactlyInAnyOrder(3, 0);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM order_line WHERE order_id = ?",
+                Integer.class, placed.order().getId())).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM cart_item WHERE user_id = 'buyer'",
+                Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("placeOrder should write nothing when any item has too little stock")
+    void shouldRejectWholeOrderOnShortStock() {
+        List<Book> books = bookRepository.insertAll(List.of(
+                new Book(null, "A", "Author", "Category", new BigDecimal("10.00"), 2020, 5),
+                new Book(null, "B", "Author", "Category", new BigDecimal("2.50"), 2020, 1)));
+        Long a = idOf(books, "A");
+        Long b = idOf(books, "B");
+        jdbcTemplate.update("INSERT INTO shopping_cart (user_id) VALUES ('short-buyer')");
+        jdbcTemplate.update("INSERT INTO cart_item (user_id, book_id, title, unit_price, quantity) VALUES "
+                + "('short-buyer', ?, 'A', 10.00, 1), ('short-buyer', ?, 'B', 2.50, 2)", a, b);
+        Integer ordersBefore = jdbcTemplate.queryForObject("SELECT count(*) FROM orders", Integer.class);
+
+        assertThatThrownBy(() -> orderRepository.placeOrder("short-buyer"))
+                .isInstanceOf(InsufficientStockException.class);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders", Integer.class)).isEqualTo(ordersBefore);
+    }
+
+    @Test
+    @DisplayName("placeOrder should report a line whose book was deleted as not found and write nothing")
+    void shouldReportDeletedBookAsNotFound() {
+        List<Book> books = bookRepository.insertAll(List.of(
+                new Book(null, "A", "Author", "Category", new BigDecimal("10.00"), 2020, 5),
+                new Book(null, "Gone", "Author", "Category", new BigDecimal("2.50"), 2020, 5)));
+        Long a = idOf(books, "A");
+        Long gone = idOf(books, "Gone");
+        jdbcTemplate.update("INSERT INTO shopping_cart (user_id) VALUES ('late-buyer')");
+        jdbcTemplate.update("INSERT INTO cart_item (user_id, book_id, title, unit_price, quantity) VALUES "
+                + "('late-buyer', ?, 'A', 10.00, 1), ('late-buyer', ?, 'Gone', 2.50, 1)", a, gone);
+        bookRepository.deleteById(gone);
+
+        assertThatThrownBy(() -> orderRepository.placeOrder("late-buyer"))
+                .isInstanceOf(RequestNotFoundException.class)
+                .hasMessageContaining(String.valueOf(gone));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT quantity FROM books WHERE id = ?", Integer.class, a))
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("placeOrder should return empty for a missing or empty cart")
+    void shouldReturnEmptyForEmptyCart() {
+        jdbcTemplate.update("INSERT INTO shopping_cart (user_id) VALUES ('empty-buyer')");
+
+        assertThat(orderRepository.placeOrder("empty-buyer")).isEmpty();
+        assertThat(orderRepository.placeOrder("no-cart-buyer")).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("two concurrent checkouts of one cart should place a single order and take stock once")
+    void shouldPlaceOneOrderForConcurrentCheckouts() throws Exception {
+        String userId = "race-buyer-" + System.nanoTime();
+        Long bookId = bookRepository.insertAll(List.of(
+                new Book(null, "Race", "Author", "Category", new BigDecimal("4.00"), 2020, 10))).get(0).getId();
+        jdbcTemplate.update("INSERT INTO shopping_cart (user_id) VALUES (?)", userId);
+        jdbcTemplate.update("INSERT INTO cart_item (user_id, book_id, title, unit_price, quantity) "
+                + "VALUES (?, ?, 'Race', 4.00, 3)", userId, bookId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Callable<Optional<PlacedOrder>> checkout = () -> {
+                start.await();
+                return orderRepository.placeOrder(userId);
+            };
+            Future<Optional<PlacedOrder>> first = executor.submit(checkout);
+            Future<Optional<PlacedOrder>> second = executor.submit(checkout);
+            start.countDown();
+
+            List<Optional<PlacedOrder>> results = List.of(first.get(30, TimeUnit.SECONDS), second.get(30, TimeUnit.SECONDS));
+
+            assertThat(results).filteredOn(Optional::isPresent).hasSize(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders WHERE user_id = ?",
+                    Integer.class, userId)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT quantity FROM books WHERE id = ?",
+                    Integer.class, bookId)).isEqualTo(7);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM cart_item WHERE user_id = ?",
+                    Integer.class, userId)).isZero();
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM order_line WHERE order_id IN (SELECT id FROM orders WHERE user_id = ?)", userId);
+            jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM shopping_cart WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+        }
+    }
+
+    private static Long idOf(List<Book> books, String title) {
+        return books.stream().filter(book -> book.getTitle().equals(title)).findFirst().orElseThrow().getId();
+    }
+}
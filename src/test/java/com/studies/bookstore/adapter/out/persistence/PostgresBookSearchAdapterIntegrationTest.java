@@ -0,0 +1,58 @@
+package com.studies.bookstore.adapter.out.persistence;
+
+import com.studies.bookstore.AbstractPostgresContainerTest;
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.domain.model.Book;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostgresBookSearchAdapterIntegrationTest extends AbstractPostgresContainerTest {
+
+    @Autowired
+    private JpaBookRepository jpaBookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("should rank title matches first and page the results (uses books seeded by V3)")
+    void shouldSearchSeededBooks() {
+        PostgresBookSearchAdapter adapter = new PostgresBookSearchAdapter(jpaBookRepository);
+
+        PagedResult<Book> first = adapter.search("martin", 0, 2);
+        PagedResult<Book> second = adapter.search("martin", 1, 2);
+
+        // Martin Fowler wrote two seeded books and Robert C. Martin two more
+        assertThat(first.getTotalElements()).isEqualTo(4);
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(adapter.search("clean martin", 0, 10).getContent())
+                .extracting(Book::getTitle)
+                .containsExactlyInAnyOrder("Clean Code", "Clean Architecture");
+        assertThat(adapter.search("nonexistentterm", 0, 10).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search predicate should be answerable from the GIN index")
+    @SuppressWarnings("unchecked")
+    void shouldUseGinIndex() {
+        // The seeded table is tiny, so take sequential scans off the table to see whether the index applies
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+
+        List<String> plan = entityManager.createNativeQuery(
+                        "EXPLAIN SELECT id FROM books WHERE search_vector @@ websearch_to_tsquery('simple', 'clean')")
+                .getResultList();
+
+        assertThat(String.join("\n", plan)).contains("idx_books_search_vector");
+    }
+}
@@ -6,11 +6,14 @@ import com.studies.bookstore.adapter.out.persistence.entity.ShoppingCartEntity;
 import com.studies.bookstore.application.port.out.ShoppingCartRepositoryPort;
 import com.studies.bookstore.domain.model.CartItem;
 import com.studies.bookstore.domain.model.ShoppingCart;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
@@ -18,7 +21,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Import(ShoppingCartRepositoryAdapter.class)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class ShoppingCartRepositoryAdapterIntegrationTest extends AbstractPostgresContainerTest {
@@ -29,6 +32,9 @@ class ShoppingCartRepositoryAdapterIntegrationTest extends AbstractPostgresConta
     @Autowired
     private ShoppingCartRepositoryPort cartRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("should persist and load shopping cart with items using real JPA + Flyway schema")
     void shouldPersistAndLoadCart() {
@@ -94,4 +100,80 @@ class ShoppingCartRepositoryAdapterIntegrationTest extends AbstractPostgresConta
         assertThat(loaded.getItems().get(0).getBookId()).isEqualTo(2L);
         assertThat(loaded.getItems().get(0).getQuantity()).isEqualTo(4);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should update changed lines in place and keep rows of untouched lines")
+    void shouldOnlyRewriteChangedLines() {
+        String userId = "user-it-diff";
+        ShoppingCart cart = new ShoppingCart(userId);
+        cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 1));
+        cart.addItem(new CartItem(2L, "Book 2", BigDecimal.ONE, 2));
+        cart.addItem(new CartItem(3L, "Book 3", BigDecimal.ONE, 3));
+        cartRepository.save(cart);
+        List<Long> idsBefore = jpaRepository.findById(userId).orElseThrow().getItems().stream()
+                .map(CartItemEntity::getId)
+                .toList();
+
+        ShoppingCart loaded = cartRepository.findByUserId(userId).orElseThrow();
+        loaded.updateItemQuantity(2L, 5);
+        loaded.removeItem(3L);
+        loaded.addItem(new CartItem(4L, "Book 4", BigDecimal.TEN, 1));
+        cartRepository.save(loaded);
+
+        List<CartItemEntity> items = jpaRepository.findById(userId).orElseThrow().getItems();
+        assertThat(items).extracting(CartItemEntity::getBookId).containsExactly(1L, 2L, 4L);
+        assertThat(items.get(0).getId()).isEqualTo(idsBefore.get(0));
+        assertThat(items.get(1).getId()).isEqualTo(idsBefore.get(1));
+        assertThat(items.get(1).getQuantity()).isEqualTo(5);
+        assertThat(items.get(2).getId()).isNotIn(idsBefore);
+    }
+
+    @Test
+    @DisplayName("should load a cart with all its items in a single statement")
+    void shouldLoadCartInOneQuery() {
+        String userId = "user-it-queries";
+        ShoppingCart cart = new ShoppingCart(userId);
+        for (long bookId = 1; bookId <= 20; bookId++) {
+            cart.addItem(new CartItem(bookId, "Book " + bookId, BigDecimal.TEN, 1));
+        }
+        cartRepository.save(cart);
+        Statistics statistics = freshStatistics();
+
+        ShoppingCart loaded = cartRepository.findByUserId(userId).orElseThrow();
+
+        assertThat(loaded.getItems()).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reload the cart in a single statement when saving it")
+    void shouldSaveWithSingleReload() {
+        String userId = "user-it-save-queries";
+        ShoppingCart cart = new ShoppingCart(userId);
+        for (long bookId = 1; bookId <= 20; bookId++) {
+            cart.addItem(new CartItem(bookId, "Book " + bookId, BigDecimal.TEN, 1));
+        }
+        cartRepository.save(cart);
+        ShoppingCart loaded = cartRepository.findByUserId(userId).orElseThrow();
+        loaded.updateItemQuantity(5L, 3);
+        Statistics statistics = freshStatistics();
+
+        ShoppingCart saved = cartRepository.save(loaded);
+        entityManager.flush();
+
+        assertThat(saved.getQuantityOf(5L)).isEqualTo(3);
+        // One SELECT with the items joined in, then one UPDATE for the changed line
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    private Statistics freshStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,34 @@
+package com.studies.bookstore.adapter.out.persistence.cache;
+
+import com.studies.bookstore.domain.model.Book;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookCacheMetricsTest {
+
+    @Test
+    @DisplayName("should publish hits, misses, puts and size as cache meters tagged cache=books")
+    void shouldPublishCacheMeters() {
+        BookCache cache = new BookCache(10, Duration.ofMinutes(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new BookCacheMetrics(cache).bindTo(registry);
+
+        cache.get(1L);
+        cache.putIfUnchanged(1L, new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5),
+                cache.generation());
+        cache.get(1L);
+
+        assertThat(registry.get("cache.gets").tag("cache", "books").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "books").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.puts").tag("cache", "books").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.size").tag("cache", "books").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.studies.bookstore.adapter.out.persistence.cache;
+
+import com.studies.bookstore.application.exception.InsufficientStockException;
+import com.studies.bookstore.application.model.PlacedOrder;
+import com.studies.bookstore.application.port.out.OrderRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import com.studies.bookstore.domain.model.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+class CacheInvalidatingOrderRepositoryAdapterTest {
+
+    private final OrderRepositoryPort delegate = Mockito.mock(OrderRepositoryPort.class);
+    private final BookCache cache = new BookCache(10, Duration.ofSeconds(10));
+    private final CacheInvalidatingOrderRepositoryAdapter repository =
+            new CacheInvalidatingOrderRepositoryAdapter(delegate, cache);
+
+    private static Book book(long id, int quantity) {
+        return new Book(id, "Book " + id, "Author", "Category", BigDecimal.TEN, 2020, quantity);
+    }
+
+    private void cache(Book book) {
+        cache.putIfUnchanged(book.getId(), book, cache.generation());
+    }
+
+    @Test
+    @DisplayName("placeOrder should invalidate exactly the books whose stock the order took")
+    void placeOrderShouldInvalidateUpdatedBooks() {
+        cache(book(1L, 5));
+        cache(book(2L, 5));
+        PlacedOrder placed = new PlacedOrder(new Order(7L, "user1", List.of(), Instant.now()), List.of(book(1L, 4)));
+        when(delegate.placeOrder("user1")).thenReturn(Optional.of(placed));
+
+        assertThat(repository.placeOrder("user1")).containsSame(placed);
+
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.get(2L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("placeOrder should leave the cache alone when nothing was ordered or the order failed")
+    void placeOrderShouldNotInvalidateWithoutAnOrder() {
+        cache(book(1L, 5));
+        when(delegate.placeOrder("empty")).thenReturn(Optional.empty());
+        when(delegate.placeOrder("short")).thenThrow(new InsufficientStockException(1L, 9));
+
+        assertThat(repository.placeOrder("empty")).isEmpty();
+        assertThatThrownBy(() -> repository.placeOrder("short")).isInstanceOf(InsufficientStockException.class);
+
+        assertThat(cache.get(1L)).isPresent();
+    }
+}
@@ -0,0 +1,172 @@
+package com.studies.bookstore.adapter.out.persistence.cache;
+
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CachingBookRepositoryAdapterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final BookRepositoryPort delegate = Mockito.mock(BookRepositoryPort.class);
+    private final BookCache cache = new BookCache(2, Duration.ofSeconds(10), clock::get);
+    private final CachingBookRepositoryAdapter repository = new CachingBookRepositoryAdapter(delegate, cache);
+
+    private static Book book(long id, String title) {
+        return new Book(id, title, "Author", "Category", BigDecimal.TEN, 2020, 5);
+    }
+
+    @Test
+    @DisplayName("findById should hit the delegate once and serve later lookups from the cache")
+    void findByIdShouldReadThrough() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(book(1L, "Book 1")));
+
+        Book first = repository.findById(1L).orElseThrow();
+        Book second = repository.findById(1L).orElseThrow();
+
+        assertThat(first.getTitle()).isEqualTo("Book 1");
+        assertThat(second.getTitle()).isEqualTo("Book 1");
+        assertThat(second).isNotSameAs(first);
+        verify(delegate, times(1)).findById(1L);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findById should not cache missing books")
+    void findByIdShouldNotCacheMisses() {
+        when(delegate.findById(1L)).thenReturn(Optional.empty());
+
+        assertThat(repository.findById(1L)).isEmpty();
+        assertThat(repository.findById(1L)).isEmpty();
+
+        verify(delegate, times(2)).findById(1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("update and deleteById should invalidate the cached book")
+    void writesShouldInvalidate() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(book(1L, "Book 1")));
+        when(delegate.update(any(Book.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
+
+        repository.findById(1L);
+        repository.update(book(1L, "Updated"));
+        repository.findById(1L);
+        repository.deleteById(1L);
+        repository.findById(1L);
+
+        verify(delegate, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("entries should expire after the TTL and count as evictions")
+    void entriesShouldExpire() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(book(1L, "Book 1")));
+
+        repository.findById(1L);
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        repository.findById(1L);
+
+        verify(delegate, times(2)).findById(1L);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("least recently used entry should be evicted once max size is exceeded")
+    void shouldEvictLeastRecentlyUsed() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(book(1L, "Book 1")));
+        when(delegate.findById(2L)).thenReturn(Optional.of(book(2L, "Book 2")));
+        when(delegate.findById(3L)).thenReturn(Optional.of(book(3L, "Book 3")));
+
+        repository.findById(1L);
+        repository.findById(2L);
+        repository.findById(1L);
+        repository.findById(3L);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        repository.findById(2L);
+        verify(delegate, times(2)).findById(2L);
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("findAllByIds should serve cached books and fetch only the remaining ids in one call")
+    void findAllByIdsShouldFetchOnlyUncached() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(book(1L, "Book 1")));
+        when(delegate.findAllByIds(List.of(2L))).thenReturn(List.of(book(2L, "Book 2")));
+
+        repository.findById(1L);
+        List<Book> books = repository.findAllByIds(List.of(1L, 2L));
+
+        assertThat(books).extracting(Book::getId).containsExactlyInAnyOrder(1L, 2L);
+        verify(delegate, times(1)).findAllByIds(List.of(2L));
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("a load that raced with an invalidation should not be cached")
+    void shouldNotCacheLoadRacingWithInvalidation() {
+        when(delegate.findById(1L)).thenAnswer(inv -> {
+            cache.invalidate(1L);
+            return Optional.of(book(1L, "Stale"));
+        });
+
+        repository.findById(1L);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("a load should still be cached when only a different book was invalidated meanwhile")
+    void shouldCacheLoadRacingWithOtherInvalidation() {
+        when(delegate.findById(1L)).thenAnswer(inv -> {
+            cache.invalidate(2L);
+            return Optional.of(book(1L, "Book 1"));
+        });
+
+        repository.findById(1L);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getPutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a load should not be cached once the invalidation of its book was forgotten")
+    void shouldNotCacheLoadAfterForgottenInvalidation() {
+        long generation = cache.generation();
+        cache.invalidate(1L);
+        cache.invalidate(2L);
+        cache.invalidate(3L);
+
+        cache.putIfUnchanged(1L, book(1L, "Stale"), generation);
+
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a striped cache should stay within max size")
+    void stripedCacheShouldStayBounded() {
+        BookCache large = new BookCache(1_000, Duration.ofSeconds(10), clock::get);
+
+        for (long id = 1; id <= 5_000; id++) {
+            large.putIfUnchanged(id, book(id, "Book " + id), large.generation());
+        }
+
+        assertThat(large.size()).isEqualTo(1_000);
+        assertThat(large.getEvictionCount()).isEqualTo(4_000);
+        assertThat(large.get(5_000L)).isPresent();
+    }
+}
@@ -0,0 +1,89 @@
+package com.studies.bookstore.adapter.out.persistence.mapper;
+
+import com.studies.bookstore.adapter.out.persistence.entity.CartItemEntity;
+import com.studies.bookstore.adapter.out.persistence.entity.ShoppingCartEntity;
+import com.studies.bookstore.domain.model.CartItem;
+import com.studies.bookstore.domain.model.ShoppingCart;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShoppingCartPersistenceMapperTest {
+
+    @Test
+    @DisplayName("should keep untouched lines, update changed quantities, drop removed books and append new ones")
+    void shouldApplyOnlyTheDifference() {
+        ShoppingCartEntity entity = entity("user1");
+        CartItemEntity unchanged = line(entity, 10L, 1L, 2);
+        CartItemEntity changed = line(entity, 11L, 2L, 1);
+        line(entity, 12L, 3L, 5);
+
+        ShoppingCart cart = ShoppingCartPersistenceMapper.toDomain(entity);
+        cart.updateItemQuantity(2L, 4);
+        cart.removeItem(3L);
+        cart.addItem(new CartItem(4L, "Book 4", BigDecimal.ONE, 3));
+
+        ShoppingCartPersistenceMapper.updateEntityFromDomain(cart, entity);
+
+        assertThat(entity.getItems()).extracting(CartItemEntity::getBookId).containsExactly(1L, 2L, 4L);
+        assertThat(entity.getItems().get(0)).isSameAs(unchanged);
+        assertThat(entity.getItems().get(1)).isSameAs(changed);
+        assertThat(changed.getQuantity()).isEqualTo(4);
+        assertThat(unchanged.getQuantity()).isEqualTo(2);
+
+        CartItemEntity added = entity.getItems().get(2);
+        assertThat(added.getId()).isNull();
+        assertThat(added.getCart()).isSameAs(entity);
+        assertThat(added.getTitle()).isEqualTo("Book 4");
+        assertThat(added.getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should not touch any line when the cart is unchanged")
+    void shouldLeaveUnchangedCartAlone() {
+        ShoppingCartEntity entity = entity("user1");
+        CartItemEntity first = line(entity, 10L, 1L, 2);
+        CartItemEntity second = line(entity, 11L, 2L, 1);
+
+        ShoppingCartPersistenceMapper.updateEntityFromDomain(ShoppingCartPersistenceMapper.toDomain(entity), entity);
+
+        assertThat(entity.getItems()).containsExactly(first, second);
+        assertThat(first.getQuantity()).isEqualTo(2);
+        assertThat(second.getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should collapse duplicate stored lines for the same book into one")
+    void shouldDropDuplicateLines() {
+        ShoppingCartEntity entity = entity("user1");
+        CartItemEntity first = line(entity, 10L, 1L, 2);
+        line(entity, 11L, 1L, 3);
+
+        ShoppingCart cart = ShoppingCartPersistenceMapper.toDomain(entity);
+        ShoppingCartPersistenceMapper.updateEntityFromDomain(cart, entity);
+
+        assertThat(entity.getItems()).containsExactly(first);
+        assertThat(first.getQuantity()).isEqualTo(5);
+    }
+
+    private static ShoppingCartEntity entity(String userId) {
+        ShoppingCartEntity entity = new ShoppingCartEntity();
+        entity.setUserId(userId);
+        return entity;
+    }
+
+    private static CartItemEntity line(ShoppingCartEntity cart, Long id, Long bookId, int quantity) {
+        CartItemEntity line = new CartItemEntity();
+        line.setId(id);
+        line.setCart(cart);
+        line.setBookId(bookId);
+        line.setTitle("Book " + bookId);
+        line.setUnitPrice(BigDecimal.TEN);
+        line.setQuantity(quantity);
+        cart.getItems().add(line);
+        return line;
+    }
+}
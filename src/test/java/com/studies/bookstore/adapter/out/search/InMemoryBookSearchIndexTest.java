@@ -0,0 +1,119 @@
+package com.studies.bookstore.adapter.out.search;
+
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.domain.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryBookSearchIndexTest {
+
+    private final InMemoryBookSearchIndex index = new InMemoryBookSearchIndex();
+
+    private static Book book(long id, String title, String author, String category) {
+        return new Book(id, title, author, category, BigDecimal.TEN, 2020, 5);
+    }
+
+    @Test
+    @DisplayName("search should match all query terms across title, author and category, ignoring case")
+    void shouldMatchAllTerms() {
+        index.index(book(1L, "Clean Code", "Robert Martin", "Software"));
+        index.index(book(2L, "Clean Architecture", "Robert Martin", "Software"));
+        index.index(book(3L, "The Pragmatic Programmer", "Andrew Hunt", "Software"));
+
+        PagedResult<Book> result = index.search("CLEAN martin", 0, 10);
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(Book::getId).containsExactly(1L, 2L);
+        assertThat(index.search("clean hunt", 0, 10).getContent()).isEmpty();
+        assertThat(index.search("unknown", 0, 10).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search should rank books with more term occurrences first and page the ranked matches")
+    void shouldRankByTermFrequency() {
+        index.index(book(1L, "Java Basics", "Author", "Programming"));
+        index.index(book(2L, "Java Java Java", "Author", "Java"));
+        index.index(book(3L, "Effective Java", "Author", "Java"));
+
+        PagedResult<Book> first = index.search("java", 0, 2);
+        PagedResult<Book> second = index.search("java", 1, 2);
+
+        assertThat(first.getContent()).extracting(Book::getId).containsExactly(2L, 3L);
+        assertThat(second.getContent()).extracting(Book::getId).containsExactly(1L);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("search should page through many ranked matches in order and count every match")
+    void shouldPageThroughManyRankedMatches() {
+        List<Long> expected = new ArrayList<>();
+        for (int score = 3; score >= 1; score--) {
+            for (long n = 0; n < 10; n++) {
+                long id = score * 100 + n;
+                index.index(book(id, String.join(" ", Collections.nCopies(score, "java")), "Author", "Category"));
+                expected.add(id);
+            }
+        }
+        index.index(book(999L, "Kotlin", "Author", "Category"));
+
+        List<Long> paged = new ArrayList<>();
+        for (int page = 0; page < 5; page++) {
+            PagedResult<Book> result = index.search("java", page, 7);
+            assertThat(result.getTotalElements()).isEqualTo(30);
+            assertThat(result.getTotalPages()).isEqualTo(5);
+            result.getContent().forEach(book -> paged.add(book.getId()));
+        }
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+        assertThat(index.search("java", 5, 7).getContent()).isEmpty();
+        assertThat(index.search("java", 5, 7).getTotalElements()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("re-indexing and removing a book should replace or drop its terms")
+    void shouldReflectUpdatesAndRemovals() {
+        index.index(book(1L, "Old Title", "Author", "Category"));
+        index.index(book(1L, "New Title", "Author", "Category"));
+
+        assertThat(index.search("old", 0, 10).getContent()).isEmpty();
+        assertThat(index.search("new", 0, 10).getContent()).extracting(Book::getTitle).containsExactly("New Title");
+
+        index.remove(1L);
+
+        assertThat(index.search("title", 0, 10).getContent()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("indexIfAbsent should not overwrite a book that is already indexed")
+    void indexIfAbsentShouldKeepNewerState() {
+        index.index(book(1L, "Updated Title", "Author", "Category"));
+        index.indexIfAbsent(book(1L, "Stale Title", "Author", "Category"));
+
+        assertThat(index.search("stale", 0, 10).getContent()).isEmpty();
+        assertThat(index.search("updated", 0, 10).getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("indexIfAbsent should not re-add a book removed during a bulk load")
+    void indexIfAbsentShouldSkipBooksRemovedDuringBulkLoad() {
+        index.startBulkLoad();
+        index.remove(1L);
+        index.indexIfAbsent(book(1L, "Deleted Title", "Author", "Category"));
+        index.indexIfAbsent(book(2L, "Kept Title", "Author", "Category"));
+        index.finishBulkLoad();
+
+        assertThat(index.search("deleted", 0, 10).getContent()).isEmpty();
+        assertThat(index.search("kept", 0, 10).getContent()).extracting(Book::getId).containsExactly(2L);
+
+        index.indexIfAbsent(book(1L, "Recreated Title", "Author", "Category"));
+        assertThat(index.search("recreated", 0, 10).getContent()).hasSize(1);
+    }
+}
@@ -0,0 +1,180 @@
+package com.studies.bookstore.application.service;
+
+import com.studies.bookstore.application.model.BookImportResult;
+import com.studies.bookstore.application.model.BookImportRow;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.domain.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BookImportServiceTest {
+
+    private final BookRepositoryPort repository = Mockito.mock(BookRepositoryPort.class);
+    private final BookSearchPort searchIndex = Mockito.mock(BookSearchPort.class);
+    private final BookImportService service = new BookImportService(repository, searchIndex, 2);
+
+    private final AtomicLong ids = new AtomicLong();
+    private final List<Integer> chunkSizes = new ArrayList<>();
+
+    private static BookImportRow validRow(long line) {
+        return BookImportRow.of(line, "Book " + line, "Author", "Category", "19.90", "2020", "3");
+    }
+
+    private void assignIdsOnInsert() {
+        when(repository.insertAll(anyList())).thenAnswer(inv -> {
+            List<Book> books = inv.getArgument(0);
+            chunkSizes.add(books.size());
+            return books.stream()
+                    .map(b -> new Book(ids.incrementAndGet(), b.getTitle(), b.getAuthor(), b.getCategory(),
+                            b.getPrice(), b.getPublicationYear(), b.getQuantity()))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("importBooks should insert valid rows in chunks and index every inserted book")
+    void shouldInsertInChunks() {
+        assignIdsOnInsert();
+
+        BookImportResult result = service.importBooks(List.of(validRow(2), validRow(3), validRow(4)).iterator());
+
+        assertThat(result.getImportedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(chunkSizes).containsExactly(2, 1);
+        verify(searchIndex, times(3)).index(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("importBooks should report type, domain and parse errors with their line numbers")
+    void shouldReportRowErrors() {
+        assignIdsOnInsert();
+
+        List<BookImportRow> rows = List.of(
+                validRow(2),
+                BookImportRow.of(3, "Book", "Author", "Category", "abc", "2020", "1"),
+                BookImportRow.of(4, "Book", "Author", "Category", "-1", "2020", "1"),
+                BookImportRow.of(5, null, "Author", "Category", "1", "2020", "1"),
+                BookImportRow.malformed(6, "Invalid JSON"),
+                validRow(7)
+        );
+
+        BookImportResult result = service.importBooks(rows.iterator());
+
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(4);
+        assertThat(result.getErrors())
+                .extracting(error -> error.lineNumber() + ": " + error.message())
+                .containsExactly(
+                        "3: price is not a number: abc",
+                        "4: Price must be greater than 0",
+                        "5: title is missing",
+                        "6: Invalid JSON");
+        assertThat(result.isErrorsTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("importBooks should keep earlier chunks and report every row of a chunk the database rejected")
+    void shouldReportFailedChunk() {
+        when(repository.insertAll(anyList()))
+                .thenAnswer(inv -> List.of(new Book(1L, "Book 2", "Author", "Category",
+                        new BigDecimal("19.90"), 2020, 3), new Book(2L, "Book 3", "Author", "Category",
+                        new BigDecimal("19.90"), 2020, 3)))
+                .thenThrow(new DataAccessException("value too long") {
+                });
+
+        BookImportResult result = service.importBooks(
+                List.of(validRow(2), validRow(3), validRow(4), validRow(5)).iterator());
+
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(error -> error.lineNumber()).containsExactly(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("importBooks should retry a rejected chunk in halves and report only the rejected line")
+    void shouldIsolateRejectedRow() {
+        BookImportService fourPerChunk = new BookImportService(repository, searchIndex, 4);
+        when(repository.insertAll(anyList())).thenAnswer(inv -> {
+            List<Book> books = inv.getArgument(0);
+            if (books.stream().anyMatch(book -> book.getTitle().equals("Book 4"))) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            chunkSizes.add(books.size());
+            return books.stream()
+                    .map(b -> new Book(ids.incrementAndGet(), b.getTitle(), b.getAuthor(), b.getCategory(),
+                            b.getPrice(), b.getPublicationYear(), b.getQuantity()))
+                    .toList();
+        });
+
+        BookImportResult result = fourPerChunk.importBooks(
+                List.of(validRow(2), validRow(3), validRow(4), validRow(5)).iterator());
+
+        assertThat(result.getImportedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(error -> error.lineNumber()).containsExactly(4L);
+        assertThat(result.getErrors().get(0).message()).contains("duplicate key");
+        assertThat(chunkSizes).containsExactly(2, 1);
+        verify(searchIndex, times(3)).index(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("importBooks should reject values that do not fit their column before reaching the database")
+    void shouldRejectValuesExceedingColumnLimits() {
+        assignIdsOnInsert();
+        String tooLong = "x".repeat(BookImportService.MAX_TEXT_LENGTH + 1);
+
+        List<BookImportRow> rows = List.of(
+                BookImportRow.of(2, tooLong, "Author", "Category", "1", "2020", "1"),
+                BookImportRow.of(3, "Book", "Author", "Category", "123456789012345678", "2020", "1"),
+                validRow(4)
+        );
+
+        BookImportResult result = service.importBooks(rows.iterator());
+
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(error -> error.lineNumber() + ": " + error.message())
+                .containsExactly(
+                        "2: title must be at most 255 characters",
+                        "3: price must have at most 17 integer digits");
+        assertThat(chunkSizes).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("constructor should reject a chunk size that exceeds the statement parameter limit")
+    void shouldRejectOversizedChunk() {
+        assertThatThrownBy(() -> new BookImportService(repository, searchIndex, BookImportService.MAX_CHUNK_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("importBooks should cap the reported errors but keep counting failures")
+    void shouldCapReportedErrors() {
+        int failures = BookImportService.MAX_REPORTED_ERRORS + 5;
+        List<BookImportRow> rows = IntStream.rangeClosed(1, failures)
+                .mapToObj(line -> BookImportRow.malformed(line, "bad"))
+                .toList();
+
+        BookImportResult result = service.importBooks(rows.iterator());
+
+        assertThat(result.getFailedCount()).isEqualTo(failures);
+        assertThat(result.getErrors()).hasSize(BookImportService.MAX_REPORTED_ERRORS);
+        assertThat(result.isErrorsTruncated()).isTrue();
+        verifyNoInteractions(repository);
+    }
+}
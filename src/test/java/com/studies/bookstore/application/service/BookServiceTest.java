@@ -2,8 +2,21 @@ package com.studies.bookstore.application.service;
 
 import com.studies.bookstore.application.exception.InvalidRequestException;
 import com.studies.bookstore.application.exception.RequestNotFoundException;
+import com.studies.bookstore.application.exception.VersionConflictException;
+import com.studies.bookstore.application.model.BookBatchDeleteResult;
+import com.studies.bookstore.application.model.BookBatchResult;
+import com.studies.bookstore.application.model.BookFilter;
+import com.studies.bookstore.application.model.BookKeyset;
+import com.studies.bookstore.application.model.BookSort;
+import com.studies.bookstore.application.model.BookView;
+import com.studies.bookstore.application.model.CursorResult;
+import com.studies.bookstore.application.model.SliceResult;
+import com.studies.bookstore.application.port.command.PartialUpdateBookCommand;
 import com.studies.bookstore.application.port.command.UpdateBookCommand;
+import com.studies.bookstore.application.model.PagedResult;
+import com.studies.bookstore.application.port.out.BookQueryPort;
 import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.BookSearchPort;
 import com.studies.bookstore.domain.model.Book;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,9 +25,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -23,7 +39,10 @@ import static org.mockito.Mockito.*;
 class BookServiceTest {
 
     private final BookRepositoryPort repository = Mockito.mock(BookRepositoryPort.class);
-    private final BookService service = new BookService(repository);
+    private final BookCountEstimator countEstimator = new BookCountEstimator(repository);
+    private final BookSearchPort searchIndex = Mockito.mock(BookSearchPort.class);
+    private final BookQueryPort queryPort = Mockito.mock(BookQueryPort.class);
+    private final BookService service = new BookService(repository, countEstimator, searchIndex, queryPort);
 
     @Test
     @DisplayName("addBook should delegate to repository and return saved entity")
@@ -37,6 +56,7 @@ class BookServiceTest {
 
         assertThat(result).isSameAs(saved);
         verify(repository).save(request);
+        verify(searchIndex).index(saved);
     }
 
     @Nested
@@ -84,6 +104,219 @@ class BookServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getBooksByIds")
+    class GetBooksByIds {
+
+        @Test
+        @DisplayName("should load all ids in one repository call and return books in request order with misses")
+        void shouldPreserveRequestOrderAndReportMisses() {
+            Book book1 = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5);
+            Book book3 = new Book(3L, "Book 3", "Author", "Category", BigDecimal.TEN, 2020, 5);
+
+            when(repository.findAllByIds(anyCollection())).thenReturn(List.of(book1, book3));
+
+            BookBatchResult result = service.getBooksByIds(List.of(3L, 2L, 1L, 3L));
+
+            assertThat(result.getBooks()).extracting(Book::getId).containsExactly(3L, 1L);
+            assertThat(result.getMissingIds()).containsExactly(2L);
+            verify(repository, times(1)).findAllByIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("should reject more ids than the batch limit")
+        void shouldRejectOversizedBatch() {
+            List<Long> ids = LongStream.rangeClosed(1, BookService.MAX_BATCH_SIZE + 1L).boxed().toList();
+
+            assertThatThrownBy(() -> service.getBooksByIds(ids))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("At most");
+            verifyNoInteractions(repository);
+        }
+    }
+
+    @Nested
+    @DisplayName("getBookViews")
+    class GetBookViews {
+
+        @Test
+        @DisplayName("should query the projection port and never load domain books")
+        void shouldDelegateToQueryPort() {
+            BookFilter filter = new BookFilter("Fiction", null, null, null, null, null);
+            BookView view = new BookView(1L, "Dune", "Herbert", "Fiction", BigDecimal.TEN, 1965, 3, 0L);
+            PagedResult<BookView> page = new PagedResult<>(List.of(view), 1, 1, 0, 10);
+
+            when(queryPort.findViews(filter, 0, 10, BookSort.DEFAULT)).thenReturn(page);
+
+            assertThat(service.getBookViews(filter, 0, 10, BookSort.DEFAULT)).isSameAs(page);
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("should reject invalid pages and inverted ranges without querying")
+        void shouldValidatePageAndRanges() {
+            BookFilter inverted = new BookFilter(null, null, BigDecimal.TEN, BigDecimal.ONE, null, null);
+            BookFilter invertedYears = new BookFilter(null, null, null, null, 2020, 2010);
+            BookFilter none = new BookFilter(null, null, null, null, null, null);
+
+            assertThatThrownBy(() -> service.getBookViews(inverted, 0, 10, BookSort.DEFAULT))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Minimum price must not be greater than maximum price.");
+            assertThatThrownBy(() -> service.getBookViews(invertedYears, 0, 10, BookSort.DEFAULT))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Minimum publication year must not be greater than maximum publication year.");
+            assertThatThrownBy(() -> service.getBookViews(none, -1, 10, BookSort.DEFAULT))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Page index must not be negative.");
+            assertThatThrownBy(() -> service.getBookViews(none, Integer.MAX_VALUE / 10, 20, BookSort.DEFAULT))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Page index is too large for the page size.");
+            verifyNoInteractions(queryPort);
+        }
+
+        @Test
+        @DisplayName("should wrap data access errors as invalid requests")
+        void shouldWrapDataAccessErrors() {
+            BookFilter none = new BookFilter(null, null, null, null, null, null);
+            when(queryPort.findViews(none, 0, 10, BookSort.DEFAULT))
+                    .thenThrow(new DataAccessResourceFailureException("down"));
+
+            assertThatThrownBy(() -> service.getBookViews(none, 0, 10, BookSort.DEFAULT))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("down");
+        }
+    }
+
+    @Nested
+    @DisplayName("getBooksSlice")
+    class GetBooksSlice {
+
+        @Test
+        @DisplayName("should throw InvalidRequestException when page is negative")
+        void shouldRejectNegativePage() {
+            assertThatThrownBy(() -> service.getBooksSlice(-1, 10))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Page index must not be negative.");
+        }
+
+        @Test
+        @DisplayName("should reject a page size above the maximum, which would overflow the size + 1 fetch")
+        void shouldRejectOversizedPage() {
+            assertThatThrownBy(() -> service.getBooksSlice(0, Integer.MAX_VALUE))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Page size must not exceed " + BookService.MAX_PAGE_SIZE + ".");
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("should not report a total before the estimate was refreshed")
+        void shouldOmitTotalBeforeRefresh() {
+            Book book = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5);
+            when(repository.findSlice(0, 1)).thenReturn(new SliceResult<>(List.of(book), 0, 1, true));
+
+            SliceResult<Book> result = service.getBooksSlice(0, 1);
+
+            assertThat(result.getContent()).containsExactly(book);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getApproximateTotalElements()).isNull();
+        }
+
+        @Test
+        @DisplayName("should attach the cached approximate total without counting again")
+        void shouldAttachCachedEstimate() {
+            when(repository.estimateCount()).thenReturn(5_000_000L);
+            when(repository.findSlice(2, 10)).thenReturn(new SliceResult<>(List.of(), 2, 10, false));
+            countEstimator.refresh();
+
+            SliceResult<Book> first = service.getBooksSlice(2, 10);
+            SliceResult<Book> second = service.getBooksSlice(2, 10);
+
+            assertThat(first.getApproximateTotalElements()).isEqualTo(5_000_000L);
+            assertThat(second.getApproximateTotalElements()).isEqualTo(5_000_000L);
+            verify(repository, times(1)).estimateCount();
+        }
+
+        @Test
+        @DisplayName("should keep the previous estimate when refreshing fails")
+        void shouldKeepPreviousEstimateOnFailure() {
+            when(repository.estimateCount()).thenReturn(42L).thenThrow(new DataAccessException("db error") {
+            });
+
+            countEstimator.refresh();
+            countEstimator.refresh();
+
+            assertThat(countEstimator.getEstimate()).isEqualTo(42L);
+        }
+    }
+
+    @Nested
+    @DisplayName("getBooksAfter")
+    class GetBooksAfter {
+
+        @Test
+        @DisplayName("should throw InvalidRequestException when size is not positive or above the maximum")
+        void shouldRejectInvalidSize() {
+            assertThatThrownBy(() -> service.getBooksAfter(new BookKeyset(null, 1L), 0, BookSort.DEFAULT))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Page size must be greater than zero.");
+            assertThatThrownBy(() -> service.getBooksAfter(new BookKeyset(null, 1L), BookService.MAX_PAGE_SIZE + 1,
+                    BookSort.DEFAULT))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Page size must not exceed " + BookService.MAX_PAGE_SIZE + ".");
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("should delegate to repository keyset query")
+        void shouldDelegateToRepository() {
+            Book book = new Book(2L, "Book 2", "Author", "Category", BigDecimal.TEN, 2020, 5);
+            CursorResult<Book> page = new CursorResult<>(List.of(book), 1, true);
+
+            BookKeyset after = new BookKeyset(null, 1L);
+
+            when(repository.findAllAfter(after, 1, BookSort.DEFAULT)).thenReturn(page);
+
+            assertThat(service.getBooksAfter(after, 1, BookSort.DEFAULT)).isSameAs(page);
+        }
+    }
+
+    @Test
+    @DisplayName("exportBooks should wrap DataAccessException raised while streaming")
+    void exportBooksDataAccessException() {
+        when(repository.forEachBook(any())).thenThrow(new DataAccessException("cursor closed") {
+        });
+
+        assertThatThrownBy(() -> service.exportBooks(book -> { }))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Database error:");
+    }
+
+    @Nested
+    @DisplayName("searchBooks")
+    class SearchBooks {
+
+        @Test
+        @DisplayName("should throw InvalidRequestException when query is blank")
+        void shouldRejectBlankQuery() {
+            assertThatThrownBy(() -> service.searchBooks("  ", 0, 10))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Search query must be provided.");
+            verifyNoInteractions(searchIndex);
+        }
+
+        @Test
+        @DisplayName("should delegate to the search index without touching the repository")
+        void shouldDelegateToSearchIndex() {
+            Book book = new Book(1L, "Clean Code", "Robert Martin", "Software", BigDecimal.TEN, 2008, 5);
+            PagedResult<Book> matches = new PagedResult<>(List.of(book), 1, 1, 0, 10);
+
+            when(searchIndex.search("clean", 0, 10)).thenReturn(matches);
+
+            assertThat(service.searchBooks("clean", 0, 10)).isSameAs(matches);
+            verifyNoInteractions(repository);
+        }
+    }
+
     @Nested
     @DisplayName("updateBook")
     class UpdateBook {
@@ -95,7 +328,7 @@ class BookServiceTest {
             Book existing = new Book(1L, "Book 1", "Author", "Category", BigDecimal.ONE, 2020, 1);
 
             when(repository.findById(1L)).thenReturn(Optional.of(existing));
-            when(repository.update(any(Book.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(repository.update(any(Book.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
 
             UpdateBookCommand updateBookCommand = new UpdateBookCommand(
                     Optional.empty(),
@@ -106,7 +339,7 @@ class BookServiceTest {
                     Optional.empty()
             );
 
-            Book result = service.updateBook(1L, updateBookCommand);
+            Book result = service.updateBook(1L, updateBookCommand, null);
 
             assertThat(result.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(price));
             verify(repository).update(existing);
@@ -129,7 +362,7 @@ class BookServiceTest {
             when(repository.update(any(Book.class))).thenThrow(new DataAccessException("db error") {
             });
 
-            assertThatThrownBy(() -> service.updateBook(1L, updateBookCommand))
+            assertThatThrownBy(() -> service.updateBook(1L, updateBookCommand, null))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("Database error:");
         }
@@ -140,7 +373,7 @@ class BookServiceTest {
             Book existing = new Book(1L, "Book 1", "Author", "Category", BigDecimal.ONE, 2020, 5);
 
             when(repository.findById(1L)).thenReturn(Optional.of(existing));
-            when(repository.update(any(Book.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(repository.update(any(Book.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
 
             UpdateBookCommand updateBookCommand = new UpdateBookCommand(
                     Optional.empty(),
@@ -151,7 +384,7 @@ class BookServiceTest {
                     java.util.Optional.of(10)
             );
 
-            Book result = service.updateBook(1L, updateBookCommand);
+            Book result = service.updateBook(1L, updateBookCommand, null);
 
             assertThat(result.getQuantity()).isEqualTo(10);
             verify(repository).update(existing);
@@ -163,7 +396,7 @@ class BookServiceTest {
             Book existing = new Book(1L, "Book 1", "Author", "Category", BigDecimal.ONE, 2020, 1);
 
             when(repository.findById(1L)).thenReturn(Optional.of(existing));
-            when(repository.update(any(Book.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(repository.update(any(Book.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
 
             UpdateBookCommand updateBookCommand = new UpdateBookCommand(
                     Optional.empty(),
@@ -174,38 +407,182 @@ class BookServiceTest {
                     java.util.Optional.of(20)
             );
 
-            Book result = service.updateBook(1L, updateBookCommand);
+            Book result = service.updateBook(1L, updateBookCommand, null);
 
             assertThat(result.getPrice()).isEqualByComparingTo(BigDecimal.TEN);
             assertThat(result.getQuantity()).isEqualTo(20);
             verify(repository).update(existing);
         }
+
+        @Test
+        @DisplayName("should write a complete replacement in one versioned update without reading first")
+        void shouldReplaceWithoutRead() {
+            when(repository.update(any(Book.class)))
+                    .thenAnswer(inv -> Optional.of(withVersion(inv.getArgument(0), 4L)));
+
+            Book result = service.updateBook(1L, fullCommand(), 3L);
+
+            assertThat(result.getVersion()).isEqualTo(4L);
+            verify(repository, never()).findById(any());
+            verify(repository).update(argThat(book -> book.getId() == 1L && book.getVersion() == 3L
+                    && book.getTitle().equals("New Title")));
+            verify(searchIndex).index(result);
+        }
+
+        @Test
+        @DisplayName("should raise VersionConflictException when the versioned update matches no row of an existing book")
+        void shouldRaiseConflictOnStaleVersion() {
+            when(repository.update(any(Book.class))).thenReturn(Optional.empty());
+            when(repository.existsById(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> service.updateBook(1L, fullCommand(), 3L))
+                    .isInstanceOf(VersionConflictException.class);
+            verifyNoInteractions(searchIndex);
+        }
+
+        @Test
+        @DisplayName("should raise RequestNotFoundException when the update matches no row and the book is gone")
+        void shouldRaiseNotFoundWhenMissing() {
+            when(repository.update(any(Book.class))).thenReturn(Optional.empty());
+            when(repository.existsById(1L)).thenReturn(false);
+
+            assertThatThrownBy(() -> service.updateBook(1L, fullCommand(), null))
+                    .isInstanceOf(RequestNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("partial update should be one targeted repository write without a read")
+        void partialUpdateShouldNotRead() {
+            PartialUpdateBookCommand command = new PartialUpdateBookCommand(Optional.of(BigDecimal.TEN), Optional.empty());
+            Book stored = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5, 8L);
+            when(repository.partialUpdate(1L, command, 7L)).thenReturn(Optional.of(stored));
+
+            Book result = service.partialUpdateBook(1L, command, 7L);
+
+            assertThat(result).isSameAs(stored);
+            verify(repository, never()).findById(any());
+            verify(repository, never()).update(any());
+            verify(searchIndex).index(stored);
+        }
+
+        @Test
+        @DisplayName("partial update without fields should return the current book without writing")
+        void partialUpdateWithoutFieldsShouldNotWrite() {
+            PartialUpdateBookCommand command = new PartialUpdateBookCommand(Optional.empty(), Optional.empty());
+            Book stored = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5, 8L);
+            when(repository.findById(1L)).thenReturn(Optional.of(stored));
+
+            assertThat(service.partialUpdateBook(1L, command, 8L)).isSameAs(stored);
+            assertThatThrownBy(() -> service.partialUpdateBook(1L, command, 7L))
+                    .isInstanceOf(VersionConflictException.class);
+            verify(repository, never()).partialUpdate(any(), any(), any());
+            verifyNoInteractions(searchIndex);
+        }
+
+        @Test
+        @DisplayName("partial update should validate fields before touching the repository")
+        void partialUpdateShouldValidateUpFront() {
+            PartialUpdateBookCommand command = new PartialUpdateBookCommand(Optional.empty(), Optional.of(-1));
+
+            assertThatThrownBy(() -> service.partialUpdateBook(1L, command, null))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Quantity cannot be negative");
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("partial update should raise VersionConflictException when the versioned update matches no row")
+        void partialUpdateShouldRaiseConflict() {
+            PartialUpdateBookCommand command = new PartialUpdateBookCommand(Optional.of(BigDecimal.TEN), Optional.empty());
+            when(repository.partialUpdate(1L, command, 6L)).thenReturn(Optional.empty());
+            when(repository.existsById(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> service.partialUpdateBook(1L, command, 6L))
+                    .isInstanceOf(VersionConflictException.class);
+        }
+
+        private UpdateBookCommand fullCommand() {
+            return new UpdateBookCommand(
+                    Optional.of("New Title"),
+                    Optional.of("Author"),
+                    Optional.of("Category"),
+                    Optional.of(BigDecimal.TEN),
+                    Optional.of(2020),
+                    Optional.of(3)
+            );
+        }
+
+        private Book withVersion(Book book, Long version) {
+            return new Book(book.getId(), book.getTitle(), book.getAuthor(), book.getCategory(),
+                    book.getPrice(), book.getPublicationYear(), book.getQuantity(), version);
+        }
     }
+    @Nested
+    @DisplayName("deleteBook")
+    class DeleteBook {
 
-    @Test
-    @DisplayName("deleteBook should delegate to repository and wrap DataAccessException")
-    void deleteBookBehaviour() {
-        Book existing = new Book(1L, "Book 1", "Author", "Category", BigDecimal.ONE, 2020, 1);
+        @Test
+        @DisplayName("should issue a single delete and drop the book from the search index")
+        void shouldDeleteWithoutRead() {
+            when(repository.deleteById(1L)).thenReturn(true);
+
+            service.deleteBook(1L);
+
+            verify(repository).deleteById(1L);
+            verify(repository, never()).findById(any());
+            verify(searchIndex).remove(1L);
+        }
 
-        when(repository.findById(1L)).thenReturn(Optional.of(existing));
+        @Test
+        @DisplayName("should raise RequestNotFoundException when no row was deleted")
+        void shouldRaiseNotFoundWhenNothingDeleted() {
+            when(repository.deleteById(1L)).thenReturn(false);
 
-        service.deleteBook(1L);
+            assertThatThrownBy(() -> service.deleteBook(1L))
+                    .isInstanceOf(RequestNotFoundException.class);
+            verifyNoInteractions(searchIndex);
+        }
 
-        verify(repository).deleteById(1L);
+        @Test
+        @DisplayName("should wrap DataAccessException from repository")
+        void deleteBookDataAccessException() {
+            when(repository.deleteById(1L)).thenThrow(new DataAccessException("db error") {
+            });
+
+            assertThatThrownBy(() -> service.deleteBook(1L))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("Database error:");
+        }
     }
 
-    @Test
-    @DisplayName("deleteBook should wrap DataAccessException from repository")
-    void deleteBookDataAccessException() {
-        Book existing = new Book(1L, "Book 1", "Author", "Category", BigDecimal.ONE, 2020, 1);
+    @Nested
+    @DisplayName("deleteBooksByIds")
+    class DeleteBooksByIds {
 
-        when(repository.findById(1L)).thenReturn(Optional.of(existing));
-        doThrow(new DataAccessException("db error") {
-        }).when(repository).deleteById(1L);
+        @Test
+        @DisplayName("should delete distinct ids in one call and report the missing ones in request order")
+        void shouldDeleteAndReportMissing() {
+            when(repository.deleteAllByIds(any())).thenReturn(List.of(3L, 1L));
+
+            BookBatchDeleteResult result = service.deleteBooksByIds(List.of(1L, 2L, 3L, 1L));
+
+            assertThat(result.getDeletedIds()).containsExactly(1L, 3L);
+            assertThat(result.getMissingIds()).containsExactly(2L);
+            verify(repository).deleteAllByIds(argThat(ids -> ids.size() == 3));
+            verify(searchIndex).remove(1L);
+            verify(searchIndex).remove(3L);
+            verify(searchIndex, never()).remove(2L);
+        }
 
-        assertThatThrownBy(() -> service.deleteBook(1L))
-                .isInstanceOf(InvalidRequestException.class)
-                .hasMessageContaining("Database error:");
+        @Test
+        @DisplayName("should reject more than the maximum batch size")
+        void shouldRejectOversizedBatch() {
+            List<Long> ids = LongStream.rangeClosed(1, BookService.MAX_BATCH_SIZE + 1L).boxed().toList();
+
+            assertThatThrownBy(() -> service.deleteBooksByIds(ids))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(repository);
+        }
     }
 
 }
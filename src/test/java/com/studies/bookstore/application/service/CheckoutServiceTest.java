@@ -0,0 +1,80 @@
+package com.studies.bookstore.application.service;
+
+import com.studies.bookstore.application.exception.InsufficientStockException;
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.model.PlacedOrder;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.application.port.out.OrderRepositoryPort;
+import com.studies.bookstore.domain.model.Book;
+import com.studies.bookstore.domain.model.Order;
+import com.studies.bookstore.domain.model.OrderLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class CheckoutServiceTest {
+
+    private final OrderRepositoryPort orderRepository = mock(OrderRepositoryPort.class);
+    private final BookSearchPort searchIndex = mock(BookSearchPort.class);
+    private final CheckoutService service = new CheckoutService(orderRepository, searchIndex);
+
+    @Test
+    @DisplayName("checkout should place the whole cart as one order and refresh the taken books in the search index")
+    void shouldPlaceOrder() {
+        Book first = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 3, 1L);
+        Book second = new Book(2L, "Book 2", "Author", "Category", BigDecimal.ONE, 2020, 0, 1L);
+        Order order = new Order(10L, "user1", List.of(
+                new OrderLine(1L, "Book 1", BigDecimal.TEN, 2),
+                new OrderLine(2L, "Book 2", BigDecimal.ONE, 1)), Instant.now());
+        when(orderRepository.placeOrder("user1"))
+                .thenReturn(Optional.of(new PlacedOrder(order, List.of(first, second))));
+
+        Order result = service.checkout("user1");
+
+        assertThat(result.getId()).isEqualTo(10L);
+        assertThat(result.getTotal()).isEqualByComparingTo("21");
+        verify(searchIndex).index(first);
+        verify(searchIndex).index(second);
+    }
+
+    @Test
+    @DisplayName("checkout should reject an empty cart")
+    void shouldRejectEmptyCart() {
+        when(orderRepository.placeOrder("user1")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.checkout("user1"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Cannot check out an empty cart.");
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("checkout should propagate InsufficientStockException and leave the search index alone")
+    void shouldPropagateInsufficientStock() {
+        when(orderRepository.placeOrder("user1")).thenThrow(new InsufficientStockException(1L, 5));
+
+        assertThatThrownBy(() -> service.checkout("user1"))
+                .isInstanceOf(InsufficientStockException.class);
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("checkout should wrap DataAccessException into InvalidRequestException")
+    void shouldWrapDataAccessException() {
+        when(orderRepository.placeOrder("user1")).thenThrow(new DataAccessException("db error") {
+        });
+
+        assertThatThrownBy(() -> service.checkout("user1"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Database error:");
+    }
+}
@@ -1,5 +1,6 @@
 package com.studies.bookstore.application.service;
 
+import com.studies.bookstore.application.exception.InsufficientStockException;
 import com.studies.bookstore.application.exception.InvalidRequestException;
 import com.studies.bookstore.application.exception.RequestNotFoundException;
 import com.studies.bookstore.application.port.out.BookRepositoryPort;
@@ -67,6 +68,20 @@ class ShoppingCartServiceTest {
             verify(cartRepository).save(result);
         }
 
+        @Test
+        @DisplayName("should reject adding more than is in stock, counting what the cart already holds")
+        void shouldRejectWhenStockTooLow() {
+            Book book = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5);
+            ShoppingCart cart = new ShoppingCart("user1");
+            cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 4));
+            when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+            when(cartRepository.findByUserId("user1")).thenReturn(Optional.of(cart));
+
+            assertThatThrownBy(() -> service.addItem("user1", 1L, 2))
+                    .isInstanceOf(InsufficientStockException.class);
+            verify(cartRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("should wrap DataAccessException into InvalidRequestException when saving")
         void shouldWrapDataAccessExceptionOnSave() {
@@ -108,6 +123,8 @@ class ShoppingCartServiceTest {
         void shouldUpdateQuantityAndSave() {
             ShoppingCart cart = new ShoppingCart("user1");
             cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 1));
+            when(bookRepository.findById(1L)).thenReturn(Optional.of(
+                    new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5)));
             when(cartRepository.findByUserId("user1")).thenReturn(Optional.of(cart));
             when(cartRepository.save(any(ShoppingCart.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -123,6 +140,8 @@ class ShoppingCartServiceTest {
         void shouldWrapDataAccessExceptionOnUpdate() {
             ShoppingCart cart = new ShoppingCart("user1");
             cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 1));
+            when(bookRepository.findById(1L)).thenReturn(Optional.of(
+                    new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5)));
             when(cartRepository.findByUserId("user1")).thenReturn(Optional.of(cart));
             when(cartRepository.save(any(ShoppingCart.class))).thenThrow(new DataAccessException("db error") {
             });
@@ -131,6 +150,24 @@ class ShoppingCartServiceTest {
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("Database error:");
         }
+
+        @Test
+        @DisplayName("should reject a quantity above the stock, like addItem, but allow removing with zero")
+        void shouldRejectWhenStockTooLow() {
+            ShoppingCart cart = new ShoppingCart("user1");
+            cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 1));
+            when(bookRepository.findById(1L)).thenReturn(Optional.of(
+                    new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 5)));
+            when(cartRepository.findByUserId("user1")).thenReturn(Optional.of(cart));
+            when(cartRepository.save(any(ShoppingCart.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            assertThatThrownBy(() -> service.updateItemQuantity("user1", 1L, 6))
+                    .isInstanceOf(InsufficientStockException.class);
+            verify(cartRepository, never()).save(any());
+
+            assertThat(service.updateItemQuantity("user1", 1L, 0).getItems()).isEmpty();
+            verify(bookRepository, times(1)).findById(1L);
+        }
     }
 
     @Nested
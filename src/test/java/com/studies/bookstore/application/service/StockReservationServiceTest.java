@@ -0,0 +1,98 @@
+package com.studies.bookstore.application.service;
+
+import com.studies.bookstore.application.exception.InsufficientStockException;
+import com.studies.bookstore.application.exception.InvalidRequestException;
+import com.studies.bookstore.application.exception.RequestNotFoundException;
+import com.studies.bookstore.application.port.out.BookRepositoryPort;
+import com.studies.bookstore.application.port.out.BookSearchPort;
+import com.studies.bookstore.domain.model.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class StockReservationServiceTest {
+
+    private final BookRepositoryPort repository = mock(BookRepositoryPort.class);
+    private final BookSearchPort searchIndex = mock(BookSearchPort.class);
+    private final StockReservationService service = new StockReservationService(repository, searchIndex);
+
+    @Nested
+    @DisplayName("reserveStock")
+    class ReserveStock {
+
+        @Test
+        @DisplayName("should return the book with its decremented quantity")
+        void shouldReserve() {
+            Book stored = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 3, 5L);
+            when(repository.reserveStock(1L, 2)).thenReturn(Optional.of(stored));
+
+            Book result = service.reserveStock(1L, 2);
+
+            assertThat(result.getQuantity()).isEqualTo(3);
+            verify(repository, never()).existsById(anyLong());
+            verify(searchIndex).index(stored);
+        }
+
+        @Test
+        @DisplayName("should raise InsufficientStockException when the conditional decrement matches no row")
+        void shouldRejectWhenStockTooLow() {
+            when(repository.reserveStock(1L, 2)).thenReturn(Optional.empty());
+            when(repository.existsById(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> service.reserveStock(1L, 2))
+                    .isInstanceOf(InsufficientStockException.class);
+            verifyNoInteractions(searchIndex);
+        }
+
+        @Test
+        @DisplayName("should raise RequestNotFoundException when the book does not exist")
+        void shouldRejectMissingBook() {
+            when(repository.reserveStock(1L, 2)).thenReturn(Optional.empty());
+            when(repository.existsById(1L)).thenReturn(false);
+
+            assertThatThrownBy(() -> service.reserveStock(1L, 2))
+                    .isInstanceOf(RequestNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should reject a non-positive quantity before touching the repository")
+        void shouldRejectNonPositiveQuantity() {
+            assertThatThrownBy(() -> service.reserveStock(1L, 0))
+                    .isInstanceOf(InvalidRequestException.class);
+            verify(repository, never()).reserveStock(anyLong(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("releaseStock")
+    class ReleaseStock {
+
+        @Test
+        @DisplayName("should return the book with its incremented quantity")
+        void shouldRelease() {
+            Book stored = new Book(1L, "Book 1", "Author", "Category", BigDecimal.TEN, 2020, 7, 6L);
+            when(repository.releaseStock(1L, 2)).thenReturn(Optional.of(stored));
+
+            assertThat(service.releaseStock(1L, 2).getQuantity()).isEqualTo(7);
+            verify(searchIndex).index(stored);
+        }
+
+        @Test
+        @DisplayName("should raise RequestNotFoundException when the book does not exist")
+        void shouldRejectMissingBook() {
+            when(repository.releaseStock(1L, 2)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.releaseStock(1L, 2))
+                    .isInstanceOf(RequestNotFoundException.class);
+        }
+    }
+}
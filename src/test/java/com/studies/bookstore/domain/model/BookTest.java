@@ -107,6 +107,14 @@ class BookTest {
             Book book = new Book(1L, "Title", "Author", "Category", BigDecimal.ONE, year, 1);
             assertThat(book.getPrice()).isEqualByComparingTo(BigDecimal.ONE);
         }
+
+        @Test
+        void validatePriceShouldApplyTheSameRule() {
+            assertThatThrownBy(() -> Book.validatePrice(BigDecimal.ZERO))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessage("Price must be greater than 0");
+            Book.validatePrice(BigDecimal.ONE);
+        }
     }
 
     @Nested
@@ -130,6 +138,14 @@ class BookTest {
                     .hasMessage("Quantity cannot be negative");
         }
 
+        @Test
+        void validateQuantityShouldApplyTheSameRule() {
+            assertThatThrownBy(() -> Book.validateQuantity(-1))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessage("Quantity cannot be negative");
+            Book.validateQuantity(0);
+        }
+
         @Test
         void shouldAllowZeroOrPositiveQuantity() {
             Book book = createValidBook();
@@ -3,8 +3,11 @@ package com.studies.bookstore.domain.model;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ShoppingCartTest {
 
@@ -29,4 +32,124 @@ class ShoppingCartTest {
 
         assertThat(cart.getTotalPrice()).isEqualByComparingTo(new BigDecimal("25.00"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void itemsShouldKeepInsertionOrderAcrossUpdates() {
+        ShoppingCart cart = new ShoppingCart("user1");
+        cart.addItem(new CartItem(3L, "Book 3", BigDecimal.TEN, 1));
+        cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 1));
+        cart.addItem(new CartItem(2L, "Book 2", BigDecimal.TEN, 1));
+
+        cart.updateItemQuantity(1L, 4);
+        cart.addItem(new CartItem(3L, "Book 3", BigDecimal.TEN, 2));
+
+        assertThat(cart.getItems()).extracting(CartItem::getBookId).containsExactly(3L, 1L, 2L);
+        assertThat(cart.getQuantityOf(1L)).isEqualTo(4);
+        assertThat(cart.getQuantityOf(3L)).isEqualTo(3);
+    }
+
+    @Test
+    void updateItemQuantityToZeroShouldRemoveItem() {
+        ShoppingCart cart = new ShoppingCart("user1");
+        cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 2));
+        cart.addItem(new CartItem(2L, "Book 2", BigDecimal.TEN, 1));
+
+        cart.updateItemQuantity(1L, 0);
+        cart.updateItemQuantity(99L, 5);
+
+        assertThat(cart.getItems()).extracting(CartItem::getBookId).containsExactly(2L);
+        assertThat(cart.getQuantityOf(1L)).isZero();
+    }
+
+    @Test
+    void removeItemShouldDropOnlyThatBook() {
+        ShoppingCart cart = new ShoppingCart("user1");
+        cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 1));
+        cart.addItem(new CartItem(2L, "Book 2", BigDecimal.TEN, 1));
+        cart.addItem(new CartItem(3L, "Book 3", BigDecimal.TEN, 1));
+
+        cart.removeItem(2L);
+
+        assertThat(cart.getItems()).extracting(CartItem::getBookId).containsExactly(1L, 3L);
+        assertThat(cart.getItemCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getItemsShouldBeReusedUntilTheItemsChange() {
+        ShoppingCart cart = new ShoppingCart("user1");
+        cart.addItem(new CartItem(1L, "Book 1", BigDecimal.TEN, 1));
+        List<CartItem> items = cart.getItems();
+
+        cart.updateItemQuantity(1L, 3);
+        assertThat(cart.getItems()).isSameAs(items);
+        assertThat(items.get(0).getQuantity()).isEqualTo(3);
+
+        cart.addItem(new CartItem(2L, "Book 2", BigDecimal.ONE, 1));
+        assertThat(cart.getItems()).extracting(CartItem::getBookId).containsExactly(1L, 2L);
+        assertThat(items).extracting(CartItem::getBookId).containsExactly(1L);
+        assertThatThrownBy(() -> cart.getItems().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void constructorShouldMergeItemsForSameBook() {
+        CartItem first = new CartItem(1L, "Book 1", BigDecimal.TEN, 1);
+        CartItem duplicate = new CartItem(1L, "Book 1", BigDecimal.TEN, 2);
+        ShoppingCart cart = new ShoppingCart("user1", List.of(
+                first,
+                new CartItem(2L, "Book 2", BigDecimal.TEN, 1),
+                duplicate));
+
+        assertThat(cart.getItems()).extracting(CartItem::getBookId).containsExactly(1L, 2L);
+        assertThat(cart.getQuantityOf(1L)).isEqualTo(3);
+        assertThat(cart.getTotalQuantity()).isEqualTo(4);
+        assertThat(cart.getTotalPrice()).isEqualByComparingTo("40");
+        assertThat(first.getQuantity()).isEqualTo(1);
+        assertThat(duplicate.getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    void runningTotalsShouldMatchItemsAfterEveryMutation() {
+        Random random = new Random(7);
+        ShoppingCart cart = new ShoppingCart("user1", List.of(new CartItem(1L, "Book 1", new BigDecimal("3.50"), 2)));
+        assertTotalsMatchItems(cart);
+
+        for (int i = 0; i < 2_000; i++) {
+            long bookId = 1 + random.nextInt(25);
+            switch (random.nextInt(10)) {
+                case 0, 1, 2, 3 -> cart.addItem(new CartItem(bookId, "Book " + bookId,
+                        BigDecimal.valueOf(100 + bookId * 37, 2), 1 + random.nextInt(3)));
+                case 4, 5, 6 -> cart.updateItemQuantity(bookId, random.nextInt(6));
+                case 7, 8 -> cart.removeItem(bookId);
+                default -> {
+                    if (random.nextInt(20) == 0) {
+                        cart.clear();
+                    }
+                }
+            }
+            assertTotalsMatchItems(cart);
+        }
+    }
+
+    @Test
+    void addingSameInstanceTwiceShouldCountItsQuantityOnce() {
+        ShoppingCart cart = new ShoppingCart("user1");
+        CartItem item = new CartItem(1L, "Book 1", BigDecimal.TEN, 2);
+
+        cart.addItem(item);
+        cart.addItem(item);
+
+        assertThat(cart.getTotalQuantity()).isEqualTo(4);
+        assertTotalsMatchItems(cart);
+    }
+
+    private static void assertTotalsMatchItems(ShoppingCart cart) {
+        BigDecimal expectedPrice = cart.getItems().stream()
+                .map(item -> item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        int expectedQuantity = cart.getItems().stream().mapToInt(CartItem::getQuantity).sum();
+
+        assertThat(cart.getTotalPrice()).isEqualByComparingTo(expectedPrice);
+        assertThat(cart.getTotalQuantity()).isEqualTo(expectedQuantity);
+        assertThat(cart.getItemCount()).isEqualTo(cart.getItems().size());
+    }
+}